@@ -0,0 +1,138 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.ArrayList;
+import java.util.List;
+
+// A* con la distancia geográfica al destino, escalada por min(1, distancia / geográfica) de cada arco para
+// que sea consistente; sin coordenadas en todos los nodos forGraph usa landmarks ALT.
+public final class AStarSearch {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    static final int DEFAULT_LANDMARKS = 8;
+
+    private static AStarSearch shared;
+
+    public interface Heuristic {
+        double estimate(int v, int target);
+    }
+
+    private final CsrGraph graph;
+    private final Heuristic heuristic;
+
+    public AStarSearch(CsrGraph graph) {
+        this(graph, geographicHeuristic(graph));
+    }
+
+    public AStarSearch(CsrGraph graph, Heuristic heuristic) {
+        this.graph = graph;
+        this.heuristic = heuristic;
+    }
+
+    public static synchronized AStarSearch forGraph(CsrGraph graph) {
+        if (shared == null || shared.graph != graph) {
+            Heuristic heuristic = geographicHeuristic(graph);
+            if (heuristic == null) {
+                System.out.println("A*: sin heurística geográfica (faltan coordenadas), se usan "
+                        + DEFAULT_LANDMARKS + " landmarks ALT");
+                heuristic = AltLandmarks.build(graph, DEFAULT_LANDMARKS);
+            }
+            shared = new AStarSearch(graph, heuristic);
+        }
+        return shared;
+    }
+
+    public boolean usesHeuristic() {
+        return heuristic != null;
+    }
+
+    public PathResult shortestPath(String start, String end) {
+        int s = graph.idOf(start);
+        int t = graph.idOf(end);
+        if (s < 0 || t < 0) {
+            return new PathResult(Double.POSITIVE_INFINITY, new ArrayList<>());
+        }
+        return shortestPath(s, t);
+    }
+
+    public PathResult shortestPath(int s, int t) {
+        SearchWorkspace workspace = SearchWorkspace.acquire(graph.nodeCount());
+        IndexedDaryHeap heap = workspace.heap();
+        workspace.reach(s, 0.0, -1);
+        heap.insertOrDecrease(s, heuristic(s, t));
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            workspace.settle(u);
+            if (u == t) {
+                break;
+            }
+            double du = workspace.distance(u);
+            for (int a = graph.firstArc(u); a < graph.endArc(u); a++) {
+                int v = graph.arcTarget(a);
+                if (workspace.isSettled(v)) {
+                    continue;
+                }
+                double newDist = du + graph.arcWeight(a);
+                if (newDist < workspace.distance(v)) {
+                    workspace.reach(v, newDist, u);
+                    heap.insertOrDecrease(v, newDist + heuristic(v, t));
+                }
+            }
+        }
+
+        if (!workspace.isReached(t)) {
+            return new PathResult(Double.POSITIVE_INFINITY, new ArrayList<>());
+        }
+        int[] buffer = workspace.pathBuffer();
+        int length = 0;
+        for (int at = t; at != -1; at = workspace.predecessor(at)) {
+            buffer[length++] = at;
+        }
+        List<String> path = new ArrayList<>(length);
+        for (int i = length - 1; i >= 0; i--) {
+            path.add(graph.nameOf(buffer[i]));
+        }
+        return new PathResult(workspace.distance(t), path);
+    }
+
+    private double heuristic(int v, int t) {
+        return heuristic != null ? heuristic.estimate(v, t) : 0.0;
+    }
+
+    private static Heuristic geographicHeuristic(CsrGraph graph) {
+        if (!graph.hasAllCoordinates()) {
+            return null;
+        }
+        double scale = admissibleScale(graph);
+        if (scale <= 0.0) {
+            return null;
+        }
+        return (v, t) -> scale * greatCircleKm(graph.latitude(v), graph.longitude(v),
+                graph.latitude(t), graph.longitude(t));
+    }
+
+    private static double admissibleScale(CsrGraph graph) {
+        double scale = 1.0;
+        for (int u = 0; u < graph.nodeCount(); u++) {
+            for (int a = graph.firstArc(u); a < graph.endArc(u); a++) {
+                int v = graph.arcTarget(a);
+                double straight = greatCircleKm(graph.latitude(u), graph.longitude(u),
+                        graph.latitude(v), graph.longitude(v));
+                if (straight > 0.0) {
+                    scale = Math.min(scale, graph.arcWeight(a) / straight);
+                }
+            }
+        }
+        return scale;
+    }
+
+    static double greatCircleKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(h)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+// Distancias de todos los pares y siguiente salto (primer nodo después de i hacia j, -1 si no hay), en memoria
+// o mapeadas desde AllPairsMatrixFile. Las celdas se indexan con int i * n + j, de ahí MAX_NODES.
+public final class AllPairsMatrix {
+
+    public static final int MAX_NODES = 46340;
+
+    private final CsrGraph graph;
+    private final int n;
+    private final DoubleBuffer dist;
+    private final IntBuffer next;
+
+    public AllPairsMatrix(CsrGraph graph, double[] dist, int[] next) {
+        this(graph, DoubleBuffer.wrap(dist), IntBuffer.wrap(next));
+    }
+
+    AllPairsMatrix(CsrGraph graph, DoubleBuffer dist, IntBuffer next) {
+        checkSize(graph.nodeCount());
+        this.graph = graph;
+        this.n = graph.nodeCount();
+        this.dist = dist;
+        this.next = next;
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public double distance(int i, int j) {
+        return dist.get(i * n + j);
+    }
+
+    public double distance(String from, String to) {
+        int i = graph.idOf(from);
+        int j = graph.idOf(to);
+        return i >= 0 && j >= 0 ? distance(i, j) : Double.POSITIVE_INFINITY;
+    }
+
+    public int nextHop(int i, int j) {
+        return next.get(i * n + j);
+    }
+
+    public List<String> path(int i, int j) {
+        List<String> path = new ArrayList<>();
+        if (next.get(i * n + j) < 0) {
+            return path;
+        }
+        path.add(graph.nameOf(i));
+        for (int at = i; at != j; ) {
+            at = next.get(at * n + j);
+            path.add(graph.nameOf(at));
+        }
+        return path;
+    }
+
+    public List<String> path(String from, String to) {
+        int i = graph.idOf(from);
+        int j = graph.idOf(to);
+        return i >= 0 && j >= 0 ? path(i, j) : new ArrayList<>();
+    }
+
+    // Igual que ShortestPathTree.farthestNode: la primera distancia mayor; inalcanzable cuenta como mayor.
+    public Eccentricity.EccentricityResult eccentricity(int i) {
+        int farthest = -1;
+        double best = 0.0;
+        int row = i * n;
+        for (int j = 0; j < n; j++) {
+            double d = dist.get(row + j);
+            if (d > best) {
+                best = d;
+                farthest = j;
+            }
+        }
+        if (farthest < 0) {
+            return new Eccentricity.EccentricityResult(0.0, null, null);
+        }
+        return new Eccentricity.EccentricityResult(best, graph.nameOf(farthest), path(i, farthest));
+    }
+
+    DoubleBuffer distanceBuffer() {
+        return dist.duplicate();
+    }
+
+    IntBuffer nextHopBuffer() {
+        return next.duplicate();
+    }
+
+    static void checkSize(int n) {
+        if (n > MAX_NODES) {
+            throw new IllegalArgumentException("Matriz de todos los pares limitada a " + MAX_NODES + " nodos: " + n);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Matriz de todos los pares en disco: cabecera (magic, versión, checksum del dataset, n), n * n doubles y
+// n * n saltos, mapeada de solo lectura. Se escribe a un temporal y se mueve encima.
+public final class AllPairsMatrixFile {
+
+    private static final int FORMAT_MAGIC = 0x47524150; // "GRAP"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+
+    private static final ExecutorService REBUILDER = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "all-pairs-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private AllPairsMatrixFile() {
+    }
+
+    public static void write(AllPairsMatrix matrix, Path file) throws IOException {
+        int n = matrix.size();
+        long cells = (long) n * n;
+        checkMappable(cells);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(FORMAT_MAGIC).putInt(FORMAT_VERSION).putLong(matrix.getGraph().checksum()).putInt(n);
+            header.rewind();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            MappedByteBuffer distances = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES, cells * Double.BYTES);
+            distances.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().put(matrix.distanceBuffer());
+            distances.force();
+            MappedByteBuffer nextHops = channel.map(FileChannel.MapMode.READ_WRITE,
+                    HEADER_BYTES + cells * Double.BYTES, cells * Integer.BYTES);
+            nextHops.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(matrix.nextHopBuffer());
+            nextHops.force();
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // IOException si el archivo no es una matriz de este dataset.
+    public static AllPairsMatrix map(Path file, CsrGraph graph) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    break;
+                }
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != FORMAT_MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException("Formato de matriz no reconocido: " + file);
+            }
+            int n = graph.nodeCount();
+            if (header.getLong() != graph.checksum() || header.getInt() != n) {
+                throw new IOException("La matriz no corresponde al grafo cargado: " + file);
+            }
+            long cells = (long) n * n;
+            checkMappable(cells);
+            if (channel.size() != HEADER_BYTES + cells * (Double.BYTES + Integer.BYTES)) {
+                throw new IOException("Matriz incompleta: " + file);
+            }
+            DoubleBuffer distances = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, cells * Double.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            IntBuffer nextHops = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + cells * Double.BYTES,
+                    cells * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            return new AllPairsMatrix(graph, distances, nextHops);
+        }
+    }
+
+    // Cada dataset tiene su archivo (nombre.<checksum>.apsp), así nunca se reemplaza uno que siga mapeado.
+    // Si no existe, se reconstruye con FloydWarshall en segundo plano y se borran los de otros datasets.
+    public static CompletableFuture<AllPairsMatrix> loadOrRebuild(CsrGraph graph, Path file) {
+        Path versioned = versionedFile(file, graph.checksum());
+        if (Files.exists(versioned)) {
+            try {
+                return CompletableFuture.completedFuture(map(versioned, graph));
+            } catch (IOException e) {
+                System.err.println("Reconstruyendo matriz de distancias: " + e.getMessage());
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            if (Files.exists(versioned)) {
+                try {
+                    return map(versioned, graph);
+                } catch (IOException e) {
+                    // Incompleta o dañada: se reescribe abajo.
+                }
+            }
+            AllPairsMatrix matrix = FloydWarshall.compute(graph);
+            try {
+                write(matrix, versioned);
+                deleteOtherVersions(file, versioned);
+                return map(versioned, graph);
+            } catch (IOException e) {
+                System.err.println("No se pudo guardar la matriz de distancias: " + e.getMessage());
+                return matrix;
+            }
+        }, REBUILDER);
+    }
+
+    static Path versionedFile(Path file, long checksum) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String extension = dot > 0 ? name.substring(dot) : "";
+        return file.resolveSibling(base + "." + Long.toHexString(checksum) + extension);
+    }
+
+    // Un archivo que sigue mapeado no se puede borrar en Windows; se intenta de nuevo en la próxima reconstrucción.
+    private static void deleteOtherVersions(Path file, Path keep) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String glob = dot > 0 ? name.substring(0, dot) + ".*" + name.substring(dot) : name + ".*";
+        Path directory = file.toAbsolutePath().getParent();
+        List<Path> stale = new ArrayList<>();
+        stale.add(file);
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(directory, glob)) {
+            for (Path sibling : siblings) {
+                if (!sibling.getFileName().equals(keep.getFileName())) {
+                    stale.add(sibling);
+                }
+            }
+        } catch (IOException e) {
+            return;
+        }
+        for (Path path : stale) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                // Sigue en uso.
+            }
+        }
+    }
+
+    private static void checkMappable(long cells) throws IOException {
+        if (cells * Double.BYTES > Integer.MAX_VALUE) {
+            throw new IOException("Matriz demasiado grande para mapear: " + cells + " celdas");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.Arrays;
+
+// Cotas ALT para A* sin coordenadas: d(v, t) >= |d(l, t) - d(l, v)| para cada landmark l, elegidos cada
+// uno lo más lejos posible de los anteriores (uno por componente como mínimo).
+public final class AltLandmarks implements AStarSearch.Heuristic {
+
+    private final CsrGraph graph;
+    private final int[] landmarks;
+    private final double[][] distances;
+
+    private AltLandmarks(CsrGraph graph, int[] landmarks, double[][] distances) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.distances = distances;
+    }
+
+    public static AltLandmarks build(CsrGraph graph, int k) {
+        int n = graph.nodeCount();
+        k = Math.max(0, Math.min(k, n));
+        int[] landmarks = new int[k];
+        double[][] distances = new double[k][];
+        DijkstraEngine engine = new DijkstraEngine(graph);
+
+        double[] closest = new double[n];
+        Arrays.fill(closest, Double.POSITIVE_INFINITY);
+        int next = n > 0 ? farthestFrom(engine.shortestPathTree(highestDegreeNode(graph))) : -1;
+
+        for (int i = 0; i < k; i++) {
+            landmarks[i] = next;
+            ShortestPathTree tree = engine.shortestPathTree(next);
+            distances[i] = new double[n];
+            for (int v = 0; v < n; v++) {
+                distances[i][v] = tree.distanceTo(v);
+                closest[v] = Math.min(closest[v], distances[i][v]);
+            }
+
+            next = 0;
+            for (int v = 1; v < n; v++) {
+                if (closest[v] > closest[next]) {
+                    next = v;
+                }
+            }
+        }
+        return new AltLandmarks(graph, landmarks, distances);
+    }
+
+    private static int farthestFrom(ShortestPathTree tree) {
+        int farthest = tree.farthestNode();
+        return farthest >= 0 ? farthest : tree.getSource();
+    }
+
+    private static int highestDegreeNode(CsrGraph graph) {
+        int best = 0;
+        for (int v = 1; v < graph.nodeCount(); v++) {
+            if (graph.degree(v) > graph.degree(best)) {
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public int landmarkCount() {
+        return landmarks.length;
+    }
+
+    public String landmarkName(int i) {
+        return graph.nameOf(landmarks[i]);
+    }
+
+    @Override
+    public double estimate(int v, int target) {
+        double best = 0.0;
+        for (double[] fromLandmark : distances) {
+            double dv = fromLandmark[v];
+            double dt = fromLandmark[target];
+            if (dv == Double.POSITIVE_INFINITY || dt == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+            double bound = Math.abs(dt - dv);
+            if (bound > best) {
+                best = bound;
+            }
+        }
+        return best;
+    }
+
+    public PathResult shortestPath(String start, String end) {
+        return new AStarSearch(graph, this).shortestPath(start, end);
+    }
+}
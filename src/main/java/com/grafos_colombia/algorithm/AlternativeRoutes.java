@@ -0,0 +1,197 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Rutas alternativas por mesetas (tramos comunes a los árboles del origen y del destino): cada ruta s -> a -> t
+// se acepta si mide hasta maxStretch veces la más corta y comparte a lo sumo maxOverlap con las anteriores.
+public final class AlternativeRoutes {
+
+    public static final double DEFAULT_MAX_OVERLAP = 0.6;
+    public static final double DEFAULT_MAX_STRETCH = 1.4;
+
+    private final CsrGraph graph;
+    private final ShortestPathTreeCache trees;
+    private final double maxOverlap;
+    private final double maxStretch;
+
+    public AlternativeRoutes(CsrGraph graph, double maxOverlap, double maxStretch) {
+        this(graph, null, maxOverlap, maxStretch);
+    }
+
+    // Con caché, los dos árboles se toman de ella (y quedan en ella).
+    public AlternativeRoutes(CsrGraph graph, ShortestPathTreeCache trees, double maxOverlap, double maxStretch) {
+        this.graph = graph;
+        this.trees = trees;
+        this.maxOverlap = maxOverlap;
+        this.maxStretch = maxStretch;
+    }
+
+    public List<PathResult> find(String start, String end, int maxRoutes) {
+        return search(start, end, null, maxRoutes);
+    }
+
+    // Alternativas a una ruta calculada aparte (p. ej. por ContractionHierarchy): el solapamiento se mide
+    // contra esa ruta, que no va en el resultado.
+    public List<PathResult> alternativesTo(PathResult primary, int maxRoutes) {
+        if (primary == null || primary.path == null || primary.path.size() < 2) {
+            return new ArrayList<>();
+        }
+        int[] reference = new int[primary.path.size()];
+        for (int i = 0; i < reference.length; i++) {
+            reference[i] = graph.idOf(primary.path.get(i));
+            if (reference[i] < 0) {
+                return new ArrayList<>();
+            }
+        }
+        return search(primary.path.get(0), primary.path.get(reference.length - 1), reference, maxRoutes);
+    }
+
+    private List<PathResult> search(String start, String end, int[] reference, int maxRoutes) {
+        List<PathResult> routes = new ArrayList<>();
+        int s = graph.idOf(start);
+        int t = graph.idOf(end);
+        if (s < 0 || t < 0 || maxRoutes <= 0) {
+            return routes;
+        }
+        ShortestPathTree forward = tree(s);
+        ShortestPathTree backward = tree(t);
+        double best = forward.distanceTo(t);
+        if (best == Double.POSITIVE_INFINITY) {
+            return routes;
+        }
+
+        List<Plateau> plateaus = new ArrayList<>();
+        for (int a = 0; a < graph.nodeCount(); a++) {
+            if (!forward.isReachable(a) || continuesPlateau(forward, backward, a)) {
+                continue;
+            }
+            int b = a;
+            while (backward.predecessor(b) >= 0 && forward.predecessor(backward.predecessor(b)) == b) {
+                b = backward.predecessor(b);
+            }
+            if (b != a) {
+                double length = forward.distanceTo(a) + backward.distanceTo(a);
+                plateaus.add(new Plateau(a, length, forward.distanceTo(b) - forward.distanceTo(a)));
+            }
+        }
+        plateaus.sort(Comparator.comparingDouble((Plateau p) -> p.routeLength)
+                .thenComparingDouble(p -> -p.plateauLength)
+                .thenComparingInt(p -> p.start));
+
+        List<Set<Long>> acceptedArcs = new ArrayList<>();
+        if (reference != null) {
+            acceptedArcs.add(arcKeys(reference));
+        } else {
+            int[] shortest = viaRoute(forward, backward, t);
+            acceptedArcs.add(arcKeys(shortest));
+            routes.add(toResult(shortest, best));
+        }
+        for (Plateau plateau : plateaus) {
+            if (routes.size() >= maxRoutes) {
+                break;
+            }
+            if (plateau.routeLength > best * maxStretch + 1e-9) {
+                break;
+            }
+            int[] route = viaRoute(forward, backward, plateau.start);
+            if (route == null) {
+                continue;
+            }
+            if (dissimilar(route, plateau.routeLength, acceptedArcs)) {
+                acceptedArcs.add(arcKeys(route));
+                routes.add(toResult(route, plateau.routeLength));
+            }
+        }
+        return routes;
+    }
+
+    private ShortestPathTree tree(int source) {
+        return trees != null ? trees.get(source) : new DijkstraEngine(graph).shortestPathTree(source);
+    }
+
+    private static boolean continuesPlateau(ShortestPathTree forward, ShortestPathTree backward, int v) {
+        int p = forward.predecessor(v);
+        return p >= 0 && backward.predecessor(p) == v;
+    }
+
+    // s -> a por el árbol del origen, a -> t por el árbol del destino; null si repite nodos.
+    private int[] viaRoute(ShortestPathTree forward, ShortestPathTree backward, int a) {
+        int head = 0;
+        for (int at = a; at != -1; at = forward.predecessor(at)) {
+            head++;
+        }
+        int tail = 0;
+        for (int at = backward.predecessor(a); at != -1; at = backward.predecessor(at)) {
+            tail++;
+        }
+        int[] route = new int[head + tail];
+        int i = head - 1;
+        for (int at = a; at != -1; at = forward.predecessor(at)) {
+            route[i--] = at;
+        }
+        i = head;
+        for (int at = backward.predecessor(a); at != -1; at = backward.predecessor(at)) {
+            route[i++] = at;
+        }
+
+        Set<Integer> visited = new HashSet<>();
+        for (int v : route) {
+            if (!visited.add(v)) {
+                return null;
+            }
+        }
+        return route;
+    }
+
+    private boolean dissimilar(int[] route, double length, List<Set<Long>> acceptedArcs) {
+        for (Set<Long> other : acceptedArcs) {
+            double shared = 0.0;
+            for (int i = 0; i < route.length - 1; i++) {
+                if (other.contains(arcKey(route[i], route[i + 1]))) {
+                    shared += graph.weightBetween(route[i], route[i + 1]);
+                }
+            }
+            if (shared > maxOverlap * length + 1e-9) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Long> arcKeys(int[] route) {
+        Set<Long> keys = new HashSet<>();
+        for (int i = 0; i < route.length - 1; i++) {
+            keys.add(arcKey(route[i], route[i + 1]));
+        }
+        return keys;
+    }
+
+    private static long arcKey(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+
+    private PathResult toResult(int[] route, double length) {
+        List<String> path = new ArrayList<>(route.length);
+        for (int v : route) {
+            path.add(graph.nameOf(v));
+        }
+        return new PathResult(length, path);
+    }
+
+    private static final class Plateau {
+        final int start;
+        final double routeLength;
+        final double plateauLength;
+
+        Plateau(int start, double routeLength, double plateauLength) {
+            this.start = start;
+            this.routeLength = routeLength;
+            this.plateauLength = plateauLength;
+        }
+    }
+}
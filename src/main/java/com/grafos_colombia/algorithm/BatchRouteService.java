@@ -0,0 +1,150 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Consultas origen/destino por lotes: bloques de CHUNK_SIZE pares, uno por tarea, con resultados en el
+// orden de entrada o a medida que terminan los bloques.
+public final class BatchRouteService implements AutoCloseable {
+
+    private static final int CHUNK_SIZE = 32;
+
+    public interface Router {
+        PathResult route(String origin, String destination);
+    }
+
+    public static final class OdPair {
+        public final String origin;
+        public final String destination;
+
+        public OdPair(String origin, String destination) {
+            this.origin = origin;
+            this.destination = destination;
+        }
+    }
+
+    public static final class RouteResult {
+        public final int index;
+        public final OdPair pair;
+        public final PathResult result;
+
+        RouteResult(int index, OdPair pair, PathResult result) {
+            this.index = index;
+            this.pair = pair;
+            this.result = result;
+        }
+    }
+
+    private final Router router;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    public BatchRouteService(CsrGraph graph, int threads) {
+        this(new DijkstraEngine(graph)::shortestPath, newFixedPool(threads), true);
+    }
+
+    public BatchRouteService(Router router, ExecutorService executor) {
+        this(router, executor, false);
+    }
+
+    private BatchRouteService(Router router, ExecutorService executor, boolean ownsExecutor) {
+        this.router = router;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    private static ExecutorService newFixedPool(int threads) {
+        return Executors.newFixedThreadPool(Math.max(1, threads), task -> {
+            Thread thread = new Thread(task, "batch-route");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public List<PathResult> routeAll(List<OdPair> pairs) {
+        List<PathResult> results = new ArrayList<>(pairs.size());
+        streamInInputOrder(pairs).forEach(r -> results.add(r.result));
+        return results;
+    }
+
+    public Stream<RouteResult> streamInInputOrder(List<OdPair> pairs) {
+        List<CompletableFuture<List<RouteResult>>> chunks = submit(pairs, null);
+        return chunks.stream().flatMap(chunk -> chunk.join().stream());
+    }
+
+    // Espera el siguiente bloque terminado; el error de un bloque se relanza al llegar a él.
+    public Stream<RouteResult> streamInCompletionOrder(List<OdPair> pairs) {
+        BlockingQueue<CompletableFuture<List<RouteResult>>> finished = new LinkedBlockingQueue<>();
+        int chunkCount = submit(pairs, finished).size();
+
+        Iterator<RouteResult> iterator = new Iterator<RouteResult>() {
+            private int chunksTaken;
+            private Iterator<RouteResult> current = new ArrayList<RouteResult>().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && chunksTaken < chunkCount) {
+                    try {
+                        current = finished.take().join().iterator();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CompletionException(e);
+                    }
+                    chunksTaken++;
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public RouteResult next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliterator(iterator, pairs.size(), Spliterator.ORDERED), false);
+    }
+
+    private List<CompletableFuture<List<RouteResult>>> submit(List<OdPair> pairs,
+                                                            BlockingQueue<CompletableFuture<List<RouteResult>>> finished) {
+        List<CompletableFuture<List<RouteResult>>> chunks = new ArrayList<>();
+        for (int from = 0; from < pairs.size(); from += CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(pairs.size(), from + CHUNK_SIZE);
+            CompletableFuture<List<RouteResult>> chunk = CompletableFuture.supplyAsync(() -> {
+                List<RouteResult> results = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    OdPair pair = pairs.get(i);
+                    results.add(new RouteResult(i, pair, router.route(pair.origin, pair.destination)));
+                }
+                return results;
+            }, executor);
+            if (finished != null) {
+                chunk.whenComplete((results, error) -> finished.add(chunk));
+            }
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.grafos_colombia.algorithm;
 
+import com.grafos_colombia.graph.CsrGraph;
 import com.grafos_colombia.graph.Node;
 
 import java.util.*;
@@ -65,4 +66,64 @@ public class Bfs {
         }
         return null; 
     }
-}
\ No newline at end of file
+
+    public static List<String> findShortestCycle(CsrGraph graph, String startNode) {
+        int start = graph.idOf(startNode);
+        if (start < 0 || graph.degree(start) < 2) {
+            return null;
+        }
+
+        List<String> shortestCycle = null;
+
+        for (int i = graph.firstArc(start); i < graph.endArc(start); i++) {
+            for (int j = i + 1; j < graph.endArc(start); j++) {
+                int neighbor1 = graph.arcTarget(i);
+                int neighbor2 = graph.arcTarget(j);
+
+                SearchWorkspace workspace = SearchWorkspace.acquire(graph.nodeCount());
+                int length = findShortestPath(graph, neighbor1, neighbor2, start, workspace);
+
+                if (length > 0 && (shortestCycle == null || length + 2 < shortestCycle.size())) {
+                    String[] cycle = new String[length + 2];
+                    cycle[0] = startNode;
+                    cycle[length + 1] = startNode;
+                    int at = neighbor2;
+                    for (int k = length; k >= 1; k--) {
+                        cycle[k] = graph.nameOf(at);
+                        at = workspace.predecessor(at);
+                    }
+                    shortestCycle = new ArrayList<>(Arrays.asList(cycle));
+                }
+            }
+        }
+        return shortestCycle;
+    }
+
+    private static int findShortestPath(CsrGraph graph, int start, int end, int excludedNode,
+                                        SearchWorkspace workspace) {
+        int[] queue = workspace.queue();
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        workspace.reach(excludedNode, 0, -1);
+        workspace.reach(start, 0, -1);
+
+        while (head < tail) {
+            int lastNode = queue[head++];
+
+            if (lastNode == end) {
+                return (int) workspace.distance(end) + 1;
+            }
+
+            double depth = workspace.distance(lastNode) + 1;
+            for (int a = graph.firstArc(lastNode); a < graph.endArc(lastNode); a++) {
+                int neighbor = graph.arcTarget(a);
+                if (!workspace.isReached(neighbor)) {
+                    workspace.reach(neighbor, depth, lastNode);
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return -1;
+    }
+}
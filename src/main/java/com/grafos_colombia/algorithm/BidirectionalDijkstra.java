@@ -0,0 +1,98 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.ArrayList;
+import java.util.List;
+
+// Dijkstra punto a punto desde el origen y el destino a la vez; para cuando la suma de los dos topes
+// alcanza la mejor distancia de encuentro.
+public final class BidirectionalDijkstra {
+
+    private final CsrGraph graph;
+
+    public BidirectionalDijkstra(CsrGraph graph) {
+        this.graph = graph;
+    }
+
+    public PathResult shortestPath(String start, String end) {
+        int s = graph.idOf(start);
+        int t = graph.idOf(end);
+        if (s < 0 || t < 0) {
+            return new PathResult(Double.POSITIVE_INFINITY, new ArrayList<>());
+        }
+        return shortestPath(s, t);
+    }
+
+    public PathResult shortestPath(int s, int t) {
+        if (s == t) {
+            List<String> path = new ArrayList<>();
+            path.add(graph.nameOf(s));
+            return new PathResult(0.0, path);
+        }
+
+        SearchWorkspace forward = SearchWorkspace.acquire(graph.nodeCount());
+        SearchWorkspace backward = SearchWorkspace.acquireSecondary(graph.nodeCount());
+        forward.reach(s, 0.0, -1);
+        forward.heap().insertOrDecrease(s, 0.0);
+        backward.reach(t, 0.0, -1);
+        backward.heap().insertOrDecrease(t, 0.0);
+
+        double best = Double.POSITIVE_INFINITY;
+        int meetForward = -1;
+        int meetBackward = -1;
+
+        while (!forward.heap().isEmpty() && !backward.heap().isEmpty()) {
+            double topForward = forward.heap().minKey();
+            double topBackward = backward.heap().minKey();
+            if (topForward + topBackward >= best) {
+                break;
+            }
+
+            boolean expandForward = topForward <= topBackward;
+            SearchWorkspace side = expandForward ? forward : backward;
+            SearchWorkspace other = expandForward ? backward : forward;
+
+            int u = side.heap().poll();
+            side.settle(u);
+            double du = side.distance(u);
+            for (int a = graph.firstArc(u); a < graph.endArc(u); a++) {
+                int v = graph.arcTarget(a);
+                double newDist = du + graph.arcWeight(a);
+                if (newDist < side.distance(v)) {
+                    side.reach(v, newDist, u);
+                    side.heap().insertOrDecrease(v, newDist);
+                }
+                if (other.isReached(v)) {
+                    double candidate = du + graph.arcWeight(a) + other.distance(v);
+                    if (candidate < best) {
+                        best = candidate;
+                        meetForward = expandForward ? u : v;
+                        meetBackward = expandForward ? v : u;
+                    }
+                }
+            }
+        }
+
+        if (best == Double.POSITIVE_INFINITY) {
+            return new PathResult(Double.POSITIVE_INFINITY, new ArrayList<>());
+        }
+        return new PathResult(best, buildPath(forward, backward, meetForward, meetBackward));
+    }
+
+    private List<String> buildPath(SearchWorkspace forward, SearchWorkspace backward,
+                                   int meetForward, int meetBackward) {
+        int[] buffer = forward.pathBuffer();
+        int length = 0;
+        for (int at = meetForward; at != -1; at = forward.predecessor(at)) {
+            buffer[length++] = at;
+        }
+        List<String> path = new ArrayList<>();
+        for (int i = length - 1; i >= 0; i--) {
+            path.add(graph.nameOf(buffer[i]));
+        }
+        for (int at = meetBackward; at != -1; at = backward.predecessor(at)) {
+            path.add(graph.nameOf(at));
+        }
+        return path;
+    }
+}
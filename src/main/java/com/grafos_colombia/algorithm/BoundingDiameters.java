@@ -0,0 +1,92 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.Arrays;
+
+// Radio, diámetro y centro exactos por cotas de excentricidad (Takes y Kosters): cada búsqueda acota
+// max(d, ecc(v) - d) <= ecc(w) <= ecc(v) + d y descarta los nodos que ya no pueden cambiar el resultado.
+public class BoundingDiameters {
+
+    private static final double TOLERANCIA_CENTRO = 0.0001;
+
+    // Un resultado por nodo (null en los descartados), o null si el grafo no es conexo.
+    public static Eccentricity.EccentricityResult[] calculate(CsrGraph graph) {
+        int n = graph.nodeCount();
+        Eccentricity.EccentricityResult[] resultados = new Eccentricity.EccentricityResult[n];
+        double[] lower = new double[n];
+        double[] upper = new double[n];
+        boolean[] candidate = new boolean[n];
+        Arrays.fill(upper, Double.POSITIVE_INFINITY);
+        Arrays.fill(candidate, true);
+
+        DijkstraEngine engine = new DijkstraEngine(graph);
+        double diameterLow = 0.0;
+        double radiusUp = Double.POSITIVE_INFINITY;
+        int remaining = n;
+        boolean pickHigh = true;
+        int v = highestDegreeNode(graph);
+
+        while (remaining > 0) {
+            ShortestPathTree tree = engine.shortestPathTree(v);
+            Eccentricity.EccentricityResult resultado = Eccentricity.fromTree(tree);
+            double ecc = resultado.eccentricity;
+            if (ecc == Double.POSITIVE_INFINITY) {
+                return null;
+            }
+
+            resultados[v] = resultado;
+            candidate[v] = false;
+            remaining--;
+            lower[v] = ecc;
+            upper[v] = ecc;
+            diameterLow = Math.max(diameterLow, ecc);
+            radiusUp = Math.min(radiusUp, ecc);
+
+            for (int w = 0; w < n; w++) {
+                if (!candidate[w]) continue;
+                double d = tree.distanceTo(w);
+                lower[w] = Math.max(lower[w], Math.max(d, ecc - d));
+                upper[w] = Math.min(upper[w], ecc + d);
+            }
+
+            int next = -1;
+            for (int w = 0; w < n; w++) {
+                if (!candidate[w]) continue;
+                // No llega al diámetro y está demasiado lejos para ser centro.
+                if (upper[w] < diameterLow && lower[w] >= radiusUp + TOLERANCIA_CENTRO) {
+                    candidate[w] = false;
+                    remaining--;
+                    continue;
+                }
+                if (next < 0 || isBetterPick(graph, w, next, lower, upper, pickHigh)) {
+                    next = w;
+                }
+            }
+            v = next;
+            pickHigh = !pickHigh;
+        }
+        return resultados;
+    }
+
+    private static boolean isBetterPick(CsrGraph graph, int w, int current, double[] lower, double[] upper,
+                                        boolean pickHigh) {
+        if (pickHigh) {
+            if (upper[w] != upper[current]) {
+                return upper[w] > upper[current];
+            }
+        } else if (lower[w] != lower[current]) {
+            return lower[w] < lower[current];
+        }
+        return graph.degree(w) > graph.degree(current);
+    }
+
+    private static int highestDegreeNode(CsrGraph graph) {
+        int best = 0;
+        for (int v = 1; v < graph.nodeCount(); v++) {
+            if (graph.degree(v) > graph.degree(best)) {
+                best = v;
+            }
+        }
+        return best;
+    }
+}
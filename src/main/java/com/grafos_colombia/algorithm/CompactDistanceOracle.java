@@ -0,0 +1,155 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+// Distancias de todos los pares cuantizadas a 16 o 24 bits, triángulo superior con un arreglo por fila:
+// d = base + código * paso, con error máximo paso / 2; el código más alto marca pares inalcanzables.
+public final class CompactDistanceOracle {
+
+    private final CsrGraph graph;
+    private final int bytesPerEntry;
+    private final int unreachableCode;
+    private final double[] base;
+    private final double[] step;
+    private final byte[][] codes;
+
+    private CompactDistanceOracle(CsrGraph graph, int bits) {
+        if (bits != 16 && bits != 24) {
+            throw new IllegalArgumentException("bits debe ser 16 o 24: " + bits);
+        }
+        int n = graph.nodeCount();
+        this.graph = graph;
+        this.bytesPerEntry = bits / 8;
+        this.unreachableCode = (1 << bits) - 1;
+        this.base = new double[n];
+        this.step = new double[n];
+        this.codes = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            codes[i] = new byte[(n - 1 - i) * bytesPerEntry];
+        }
+    }
+
+    // Un Dijkstra por fila, en paralelo.
+    public static CompactDistanceOracle build(CsrGraph graph, int bits) {
+        DijkstraEngine engine = new DijkstraEngine(graph);
+        return build(graph, bits, i -> {
+            ShortestPathTree tree = engine.shortestPathTree(i);
+            double[] row = new double[graph.nodeCount()];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = tree.distanceTo(j);
+            }
+            return row;
+        });
+    }
+
+    // Comprime una matriz existente (p. ej. una mapeada por AllPairsMatrixFile).
+    public static CompactDistanceOracle fromMatrix(AllPairsMatrix matrix, int bits) {
+        return build(matrix.getGraph(), bits, i -> {
+            double[] row = new double[matrix.size()];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = matrix.distance(i, j);
+            }
+            return row;
+        });
+    }
+
+    private static CompactDistanceOracle build(CsrGraph graph, int bits, IntFunction<double[]> rows) {
+        CompactDistanceOracle oracle = new CompactDistanceOracle(graph, bits);
+        ForkJoinPool.commonPool().submit(() -> IntStream.range(0, graph.nodeCount()).parallel()
+                .forEach(i -> oracle.encodeRow(i, rows.apply(i)))).join();
+        return oracle;
+    }
+
+    private void encodeRow(int i, double[] row) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = 0.0;
+        for (int j = i + 1; j < row.length; j++) {
+            if (row[j] != Double.POSITIVE_INFINITY) {
+                min = Math.min(min, row[j]);
+                max = Math.max(max, row[j]);
+            }
+        }
+        int maxCode = unreachableCode - 1;
+        base[i] = min == Double.POSITIVE_INFINITY ? 0.0 : min;
+        step[i] = max > base[i] ? (max - base[i]) / maxCode : 0.0;
+        for (int j = i + 1; j < row.length; j++) {
+            int code;
+            if (row[j] == Double.POSITIVE_INFINITY) {
+                code = unreachableCode;
+            } else if (step[i] == 0.0) {
+                code = 0;
+            } else {
+                code = (int) Math.min(maxCode, Math.round((row[j] - base[i]) / step[i]));
+            }
+            writeCode(codes[i], index(i, j), code);
+        }
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public int getBits() {
+        return bytesPerEntry * 8;
+    }
+
+    public long sizeInBytes() {
+        long bytes = 8L * (base.length + step.length);
+        for (byte[] row : codes) {
+            bytes += row.length;
+        }
+        return bytes;
+    }
+
+    public double distance(int i, int j) {
+        if (i == j) {
+            return 0.0;
+        }
+        int row = Math.min(i, j);
+        int code = readCode(codes[row], index(row, Math.max(i, j)));
+        return code == unreachableCode ? Double.POSITIVE_INFINITY : base[row] + code * step[row];
+    }
+
+    public double distance(String from, String to) {
+        int i = graph.idOf(from);
+        int j = graph.idOf(to);
+        return i >= 0 && j >= 0 ? distance(i, j) : Double.POSITIVE_INFINITY;
+    }
+
+    // |distance(i, j) - exacta| <= errorBound(i, j), salvo redondeo de punto flotante.
+    public double errorBound(int i, int j) {
+        return i == j ? 0.0 : step[Math.min(i, j)] / 2;
+    }
+
+    // Dijkstra exacto si el error de cuantización puede pasar de maxError.
+    public double distance(int i, int j, double maxError) {
+        if (errorBound(i, j) <= maxError) {
+            return distance(i, j);
+        }
+        return Dijkstra.dijkstra(graph.nameOf(i), graph.nameOf(j), graph).distance;
+    }
+
+    // Posición del par (i, j > i) dentro de la fila i.
+    private int index(int i, int j) {
+        return (j - i - 1) * bytesPerEntry;
+    }
+
+    private void writeCode(byte[] row, int at, int code) {
+        row[at] = (byte) code;
+        row[at + 1] = (byte) (code >>> 8);
+        if (bytesPerEntry == 3) {
+            row[at + 2] = (byte) (code >>> 16);
+        }
+    }
+
+    private int readCode(byte[] row, int at) {
+        int code = (row[at] & 0xFF) | (row[at + 1] & 0xFF) << 8;
+        if (bytesPerEntry == 3) {
+            code |= (row[at + 2] & 0xFF) << 16;
+        }
+        return code;
+    }
+}
@@ -0,0 +1,482 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+// Contraction Hierarchies: atajos u-w por cada nodo contraído sin camino testigo más corto, consultados con
+// un Dijkstra bidireccional solo hacia nodos de mayor rango.
+public final class ContractionHierarchy {
+
+    private static final int FORMAT_MAGIC = 0x47524348; // "GRCH"
+    private static final int FORMAT_VERSION = 1;
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private static final ExecutorService BUILDER = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "contraction-hierarchy");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final CsrGraph graph;
+    private final int[] rank;
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final double[] upWeights;
+    private final int[] upMiddles;
+
+    private ContractionHierarchy(CsrGraph graph, int[] rank, int[] upOffsets, int[] upTargets,
+                                 double[] upWeights, int[] upMiddles) {
+        this.graph = graph;
+        this.rank = rank;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upWeights = upWeights;
+        this.upMiddles = upMiddles;
+    }
+
+    private static final class Arc {
+        double weight;
+        int middle;
+
+        Arc(double weight, int middle) {
+            this.weight = weight;
+            this.middle = middle;
+        }
+    }
+
+    public static ContractionHierarchy build(CsrGraph graph) {
+        int n = graph.nodeCount();
+        List<Map<Integer, Arc>> adj = new ArrayList<>(n);
+        for (int v = 0; v < n; v++) {
+            Map<Integer, Arc> neighbors = new HashMap<>();
+            for (int a = graph.firstArc(v); a < graph.endArc(v); a++) {
+                int u = graph.arcTarget(a);
+                if (u == v) continue;
+                Arc existing = neighbors.get(u);
+                if (existing == null) {
+                    neighbors.put(u, new Arc(graph.arcWeight(a), -1));
+                } else if (graph.arcWeight(a) < existing.weight) {
+                    existing.weight = graph.arcWeight(a);
+                }
+            }
+            adj.add(neighbors);
+        }
+
+        boolean[] contracted = new boolean[n];
+        int[] contractedNeighbors = new int[n];
+        int[] rank = new int[n];
+        List<Map<Integer, Arc>> upward = new ArrayList<>(n);
+        for (int v = 0; v < n; v++) {
+            upward.add(null);
+        }
+
+        PriorityQueue<double[]> queue = new PriorityQueue<>((x, y) -> Double.compare(x[0], y[0]));
+        for (int v = 0; v < n; v++) {
+            queue.add(new double[]{priority(v, adj, contracted, contractedNeighbors, null), v});
+        }
+
+        int nextRank = 0;
+        List<int[]> shortcuts = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            int v = (int) queue.poll()[1];
+            if (contracted[v]) continue;
+
+            // Actualización perezosa: se reevalúa y vuelve a la cola si ya no es el mejor.
+            double current = priority(v, adj, contracted, contractedNeighbors, null);
+            if (!queue.isEmpty() && current > queue.peek()[0]) {
+                queue.add(new double[]{current, v});
+                continue;
+            }
+
+            shortcuts.clear();
+            priority(v, adj, contracted, contractedNeighbors, shortcuts);
+
+            contracted[v] = true;
+            rank[v] = nextRank++;
+            upward.set(v, adj.get(v));
+
+            for (int[] shortcut : shortcuts) {
+                int u = shortcut[0];
+                int w = shortcut[1];
+                double weight = adj.get(v).get(u).weight + adj.get(v).get(w).weight;
+                addOrImprove(adj.get(u), w, weight, v);
+                addOrImprove(adj.get(w), u, weight, v);
+            }
+            for (int u : adj.get(v).keySet()) {
+                adj.get(u).remove(v);
+                contractedNeighbors[u]++;
+            }
+        }
+
+        int[] upOffsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            upOffsets[v + 1] = upOffsets[v] + upward.get(v).size();
+        }
+        int[] upTargets = new int[upOffsets[n]];
+        double[] upWeights = new double[upOffsets[n]];
+        int[] upMiddles = new int[upOffsets[n]];
+        for (int v = 0; v < n; v++) {
+            int a = upOffsets[v];
+            for (Map.Entry<Integer, Arc> entry : upward.get(v).entrySet()) {
+                upTargets[a] = entry.getKey();
+                upWeights[a] = entry.getValue().weight;
+                upMiddles[a] = entry.getValue().middle;
+                a++;
+            }
+        }
+        return new ContractionHierarchy(graph, rank, upOffsets, upTargets, upWeights, upMiddles);
+    }
+
+    private static void addOrImprove(Map<Integer, Arc> neighbors, int target, double weight, int middle) {
+        Arc existing = neighbors.get(target);
+        if (existing == null) {
+            neighbors.put(target, new Arc(weight, middle));
+        } else if (weight < existing.weight) {
+            existing.weight = weight;
+            existing.middle = middle;
+        }
+    }
+
+    // Diferencia de aristas más vecinos contraídos; si se pasa shortcutsOut, deja ahí los atajos necesarios.
+    private static double priority(int v, List<Map<Integer, Arc>> adj, boolean[] contracted,
+                                   int[] contractedNeighbors, List<int[]> shortcutsOut) {
+        Map<Integer, Arc> neighbors = adj.get(v);
+        int[] ids = new int[neighbors.size()];
+        double[] weights = new double[neighbors.size()];
+        int k = 0;
+        double maxWeight = 0.0;
+        for (Map.Entry<Integer, Arc> entry : neighbors.entrySet()) {
+            ids[k] = entry.getKey();
+            weights[k] = entry.getValue().weight;
+            maxWeight = Math.max(maxWeight, weights[k]);
+            k++;
+        }
+
+        int shortcutCount = 0;
+        SearchWorkspace workspace = SearchWorkspace.acquireSecondary(adj.size());
+        for (int i = 0; i < k; i++) {
+            witnessSearch(ids[i], v, weights[i] + maxWeight, adj, workspace);
+            for (int j = i + 1; j < k; j++) {
+                double viaV = weights[i] + weights[j];
+                if (workspace.distance(ids[j]) > viaV) {
+                    shortcutCount++;
+                    if (shortcutsOut != null) {
+                        shortcutsOut.add(new int[]{ids[i], ids[j]});
+                    }
+                }
+            }
+        }
+        return shortcutCount - k + contractedNeighbors[v];
+    }
+
+    private static void witnessSearch(int source, int excluded, double limit, List<Map<Integer, Arc>> adj,
+                                      SearchWorkspace workspace) {
+        workspace.begin(adj.size());
+        IndexedDaryHeap heap = workspace.heap();
+        workspace.reach(source, 0.0, -1);
+        heap.insertOrDecrease(source, 0.0);
+        int settled = 0;
+
+        while (!heap.isEmpty() && settled < WITNESS_SETTLE_LIMIT) {
+            int u = heap.poll();
+            double du = workspace.distance(u);
+            if (du > limit) {
+                break;
+            }
+            settled++;
+            for (Map.Entry<Integer, Arc> entry : adj.get(u).entrySet()) {
+                int w = entry.getKey();
+                if (w == excluded) continue;
+                double newDist = du + entry.getValue().weight;
+                if (newDist < workspace.distance(w)) {
+                    workspace.reach(w, newDist, u);
+                    heap.insertOrDecrease(w, newDist);
+                }
+            }
+        }
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public int shortcutCount() {
+        int count = 0;
+        for (int middle : upMiddles) {
+            if (middle >= 0) count++;
+        }
+        return count;
+    }
+
+    public PathResult shortestPath(String start, String end) {
+        int s = graph.idOf(start);
+        int t = graph.idOf(end);
+        if (s < 0 || t < 0) {
+            return new PathResult(Double.POSITIVE_INFINITY, new ArrayList<>());
+        }
+        return shortestPath(s, t);
+    }
+
+    public PathResult shortestPath(int s, int t) {
+        SearchWorkspace forward = SearchWorkspace.acquire(graph.nodeCount());
+        SearchWorkspace backward = SearchWorkspace.acquireSecondary(graph.nodeCount());
+        forward.reach(s, 0.0, -1);
+        forward.heap().insertOrDecrease(s, 0.0);
+        backward.reach(t, 0.0, -1);
+        backward.heap().insertOrDecrease(t, 0.0);
+
+        double best = s == t ? 0.0 : Double.POSITIVE_INFINITY;
+        int meet = s == t ? s : -1;
+        boolean forwardTurn = true;
+
+        while (true) {
+            boolean forwardOpen = !forward.heap().isEmpty() && forward.heap().minKey() < best;
+            boolean backwardOpen = !backward.heap().isEmpty() && backward.heap().minKey() < best;
+            if (!forwardOpen && !backwardOpen) {
+                break;
+            }
+            boolean useForward = forwardOpen && (forwardTurn || !backwardOpen);
+            forwardTurn = !forwardTurn;
+            SearchWorkspace side = useForward ? forward : backward;
+            SearchWorkspace other = useForward ? backward : forward;
+
+            int u = side.heap().poll();
+            double du = side.distance(u);
+            if (other.isReached(u) && du + other.distance(u) < best) {
+                best = du + other.distance(u);
+                meet = u;
+            }
+            for (int a = upOffsets[u]; a < upOffsets[u + 1]; a++) {
+                int v = upTargets[a];
+                double newDist = du + upWeights[a];
+                if (newDist < side.distance(v)) {
+                    side.reach(v, newDist, u);
+                    side.heap().insertOrDecrease(v, newDist);
+                }
+            }
+        }
+
+        if (meet < 0) {
+            return new PathResult(Double.POSITIVE_INFINITY, new ArrayList<>());
+        }
+
+        List<Integer> upPath = new ArrayList<>();
+        for (int at = meet; at != -1; at = forward.predecessor(at)) {
+            upPath.add(0, at);
+        }
+        for (int at = backward.predecessor(meet); at != -1; at = backward.predecessor(at)) {
+            upPath.add(at);
+        }
+
+        List<String> path = new ArrayList<>();
+        path.add(graph.nameOf(upPath.get(0)));
+        for (int i = 0; i + 1 < upPath.size(); i++) {
+            unpack(upPath.get(i), upPath.get(i + 1), path);
+        }
+        return new PathResult(best, path);
+    }
+
+    // Muchos a muchos con cubetas: una búsqueda ascendente por destino y otra por origen (filas en paralelo);
+    // ids desconocidos (-1) dan filas o columnas infinitas.
+    double[][] manyToMany(int[] sources, int[] targets) {
+        int n = graph.nodeCount();
+        int[][] reachedNodes = new int[targets.length][];
+        double[][] reachedDist = new double[targets.length][];
+        int[] bucketOffsets = new int[n + 1];
+        for (int j = 0; j < targets.length; j++) {
+            if (targets[j] < 0) {
+                reachedNodes[j] = new int[0];
+                reachedDist[j] = new double[0];
+                continue;
+            }
+            SearchWorkspace workspace = SearchWorkspace.acquire(n);
+            int count = upwardSearch(workspace, targets[j]);
+            reachedNodes[j] = Arrays.copyOf(workspace.queue(), count);
+            reachedDist[j] = new double[count];
+            for (int i = 0; i < count; i++) {
+                reachedDist[j][i] = workspace.distance(reachedNodes[j][i]);
+                bucketOffsets[reachedNodes[j][i] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            bucketOffsets[v + 1] += bucketOffsets[v];
+        }
+        int[] bucketTargets = new int[bucketOffsets[n]];
+        double[] bucketDist = new double[bucketOffsets[n]];
+        int[] fill = Arrays.copyOf(bucketOffsets, n);
+        for (int j = 0; j < targets.length; j++) {
+            for (int i = 0; i < reachedNodes[j].length; i++) {
+                int slot = fill[reachedNodes[j][i]]++;
+                bucketTargets[slot] = j;
+                bucketDist[slot] = reachedDist[j][i];
+            }
+        }
+
+        double[][] matrix = new double[sources.length][];
+        IntStream.range(0, sources.length).parallel().forEach(i -> {
+            double[] row = new double[targets.length];
+            Arrays.fill(row, Double.POSITIVE_INFINITY);
+            if (sources[i] >= 0) {
+                SearchWorkspace workspace = SearchWorkspace.acquire(n);
+                int count = upwardSearch(workspace, sources[i]);
+                int[] reached = workspace.queue();
+                for (int k = 0; k < count; k++) {
+                    int v = reached[k];
+                    double dv = workspace.distance(v);
+                    for (int b = bucketOffsets[v]; b < bucketOffsets[v + 1]; b++) {
+                        double candidate = dv + bucketDist[b];
+                        if (candidate < row[bucketTargets[b]]) {
+                            row[bucketTargets[b]] = candidate;
+                        }
+                    }
+                }
+            }
+            matrix[i] = row;
+        });
+        return matrix;
+    }
+
+    // Dijkstra ascendente completo desde s; deja los nodos fijados en workspace.queue() y devuelve cuántos.
+    private int upwardSearch(SearchWorkspace workspace, int s) {
+        IndexedDaryHeap heap = workspace.heap();
+        int[] settled = workspace.queue();
+        int count = 0;
+        workspace.reach(s, 0.0, -1);
+        heap.insertOrDecrease(s, 0.0);
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            settled[count++] = u;
+            double du = workspace.distance(u);
+            for (int a = upOffsets[u]; a < upOffsets[u + 1]; a++) {
+                int v = upTargets[a];
+                double newDist = du + upWeights[a];
+                if (newDist < workspace.distance(v)) {
+                    workspace.reach(v, newDist, u);
+                    heap.insertOrDecrease(v, newDist);
+                }
+            }
+        }
+        return count;
+    }
+
+    // Agrega los nodos originales después de 'from' hasta 'to' inclusive.
+    private void unpack(int from, int to, List<String> path) {
+        int middle = middleOf(from, to);
+        if (middle < 0) {
+            path.add(graph.nameOf(to));
+            return;
+        }
+        unpack(from, middle, path);
+        unpack(middle, to, path);
+    }
+
+    private int middleOf(int a, int b) {
+        int low = rank[a] < rank[b] ? a : b;
+        int high = low == a ? b : a;
+        for (int arc = upOffsets[low]; arc < upOffsets[low + 1]; arc++) {
+            if (upTargets[arc] == high) {
+                return upMiddles[arc];
+            }
+        }
+        return -1;
+    }
+
+    // Se escribe a un temporal y se mueve encima, así un corte a medias no deja el archivo truncado.
+    public void writeTo(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(FORMAT_MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(graph.checksum());
+            out.writeInt(graph.nodeCount());
+            out.writeInt(upTargets.length);
+            for (int v = 0; v < rank.length; v++) {
+                out.writeInt(rank[v]);
+            }
+            for (int v = 0; v <= rank.length; v++) {
+                out.writeInt(upOffsets[v]);
+            }
+            for (int a = 0; a < upTargets.length; a++) {
+                out.writeInt(upTargets[a]);
+                out.writeDouble(upWeights[a]);
+                out.writeInt(upMiddles[a]);
+            }
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public static ContractionHierarchy readFrom(Path file, CsrGraph graph) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Formato de jerarquía no reconocido: " + file);
+            }
+            if (in.readLong() != graph.checksum() || in.readInt() != graph.nodeCount()) {
+                throw new IOException("La jerarquía no corresponde al grafo cargado: " + file);
+            }
+            int n = graph.nodeCount();
+            int arcs = in.readInt();
+            int[] rank = new int[n];
+            int[] upOffsets = new int[n + 1];
+            int[] upTargets = new int[arcs];
+            double[] upWeights = new double[arcs];
+            int[] upMiddles = new int[arcs];
+            for (int v = 0; v < n; v++) {
+                rank[v] = in.readInt();
+            }
+            for (int v = 0; v <= n; v++) {
+                upOffsets[v] = in.readInt();
+            }
+            for (int a = 0; a < arcs; a++) {
+                upTargets[a] = in.readInt();
+                upWeights[a] = in.readDouble();
+                upMiddles[a] = in.readInt();
+            }
+            return new ContractionHierarchy(graph, rank, upOffsets, upTargets, upWeights, upMiddles);
+        }
+    }
+
+    // Lee la jerarquía guardada para este dataset, o la construye y la guarda.
+    public static ContractionHierarchy loadOrBuild(CsrGraph graph, Path file) {
+        if (Files.exists(file)) {
+            try {
+                return readFrom(file, graph);
+            } catch (IOException e) {
+                System.err.println("Reconstruyendo jerarquía: " + e.getMessage());
+            }
+        }
+        ContractionHierarchy hierarchy = build(graph);
+        try {
+            hierarchy.writeTo(file);
+        } catch (IOException e) {
+            System.err.println("No se pudo guardar la jerarquía: " + e.getMessage());
+        }
+        return hierarchy;
+    }
+
+    // Lo mismo que loadOrBuild en un hilo aparte; las construcciones van de una en una.
+    public static CompletableFuture<ContractionHierarchy> loadOrBuildAsync(CsrGraph graph, Path file) {
+        return CompletableFuture.supplyAsync(() -> loadOrBuild(graph, file), BUILDER);
+    }
+}
@@ -0,0 +1,233 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+// Delta-stepping (Meyer y Sanders) con cubetas de ancho delta guardadas solo si tienen nodos; las fronteras
+// grandes se relajan en paralelo. Distancias exactas; los predecesores se asignan al final.
+public final class DeltaStepping implements SingleSourceSolver {
+
+    private static final int PARALLEL_FRONTIER = 256;
+
+    private final CsrGraph graph;
+    private final double delta;
+    private final ForkJoinPool pool;
+
+    public DeltaStepping(CsrGraph graph) {
+        this(graph, defaultDelta(graph), ForkJoinPool.commonPool());
+    }
+
+    public DeltaStepping(CsrGraph graph, double delta, ForkJoinPool pool) {
+        if (!(delta > 0.0)) {
+            throw new IllegalArgumentException("delta debe ser positivo: " + delta);
+        }
+        this.graph = graph;
+        this.delta = delta;
+        this.pool = pool;
+    }
+
+    // Peso promedio de los arcos.
+    public static double defaultDelta(CsrGraph graph) {
+        double total = 0.0;
+        for (int a = 0; a < graph.arcCount(); a++) {
+            total += graph.arcWeight(a);
+        }
+        return graph.arcCount() > 0 && total > 0.0 ? total / graph.arcCount() : 1.0;
+    }
+
+    @Override
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public double getDelta() {
+        return delta;
+    }
+
+    public ShortestPathTree shortestPathTree(String source) {
+        int s = graph.idOf(source);
+        return s >= 0 ? shortestPathTree(s) : null;
+    }
+
+    @Override
+    public ShortestPathTree shortestPathTree(int source) {
+        int n = graph.nodeCount();
+        AtomicLongArray bits = new AtomicLongArray(n);
+        long infinity = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        for (int v = 0; v < n; v++) {
+            bits.set(v, infinity);
+        }
+        bits.set(source, Double.doubleToRawLongBits(0.0));
+
+        TreeMap<Long, IntBag> buckets = new TreeMap<>();
+        int[] stamp = new int[n];
+        int phase = 0;
+        bucket(buckets, 0).add(source);
+
+        while (!buckets.isEmpty()) {
+            long i = buckets.firstKey();
+            IntBag settled = new IntBag();
+            IntBag current;
+            while ((current = buckets.remove(i)) != null) {
+                int[] frontier = currentMembers(current, i, bits, stamp, ++phase);
+                for (int u : frontier) {
+                    settled.add(u);
+                }
+                int[] improved = relax(frontier, bits, true);
+                rebucket(improved, buckets, bits, stamp, ++phase);
+            }
+            int[] heavySources = dedupe(settled.toArray(), stamp, ++phase);
+            int[] improved = relax(heavySources, bits, false);
+            rebucket(improved, buckets, bits, stamp, ++phase);
+        }
+
+        double[] dist = new double[n];
+        for (int v = 0; v < n; v++) {
+            dist[v] = Double.longBitsToDouble(bits.get(v));
+        }
+        return new ShortestPathTree(graph, source, dist, predecessors(source, dist));
+    }
+
+    private int[] currentMembers(IntBag bucket, long index, AtomicLongArray bits, int[] stamp, int phase) {
+        IntBag members = new IntBag();
+        for (int k = 0; k < bucket.size; k++) {
+            int v = bucket.items[k];
+            if (stamp[v] != phase && bucketOf(Double.longBitsToDouble(bits.get(v))) == index) {
+                stamp[v] = phase;
+                members.add(v);
+            }
+        }
+        return members.toArray();
+    }
+
+    private static int[] dedupe(int[] nodes, int[] stamp, int phase) {
+        IntBag unique = new IntBag();
+        for (int v : nodes) {
+            if (stamp[v] != phase) {
+                stamp[v] = phase;
+                unique.add(v);
+            }
+        }
+        return unique.toArray();
+    }
+
+    private int[] relax(int[] frontier, AtomicLongArray bits, boolean light) {
+        if (frontier.length >= PARALLEL_FRONTIER) {
+            return pool.submit(() -> IntStream.of(frontier).parallel()
+                    .flatMap(u -> IntStream.of(relaxArcs(u, bits, light)))
+                    .toArray()).join();
+        }
+        IntBag improved = new IntBag();
+        for (int u : frontier) {
+            for (int v : relaxArcs(u, bits, light)) {
+                improved.add(v);
+            }
+        }
+        return improved.toArray();
+    }
+
+    private int[] relaxArcs(int u, AtomicLongArray bits, boolean light) {
+        double du = Double.longBitsToDouble(bits.get(u));
+        IntBag improved = new IntBag();
+        for (int a = graph.firstArc(u); a < graph.endArc(u); a++) {
+            double w = graph.arcWeight(a);
+            if ((w <= delta) != light) {
+                continue;
+            }
+            int v = graph.arcTarget(a);
+            if (lowerTo(bits, v, du + w)) {
+                improved.add(v);
+            }
+        }
+        return improved.toArray();
+    }
+
+    private static boolean lowerTo(AtomicLongArray bits, int v, double candidate) {
+        long current = bits.get(v);
+        while (candidate < Double.longBitsToDouble(current)) {
+            if (bits.compareAndSet(v, current, Double.doubleToRawLongBits(candidate))) {
+                return true;
+            }
+            current = bits.get(v);
+        }
+        return false;
+    }
+
+    private void rebucket(int[] improved, TreeMap<Long, IntBag> buckets, AtomicLongArray bits, int[] stamp, int phase) {
+        for (int v : improved) {
+            if (stamp[v] != phase) {
+                stamp[v] = phase;
+                bucket(buckets, bucketOf(Double.longBitsToDouble(bits.get(v)))).add(v);
+            }
+        }
+    }
+
+    private long bucketOf(double distance) {
+        return (long) Math.floor(distance / delta);
+    }
+
+    private static IntBag bucket(TreeMap<Long, IntBag> buckets, long index) {
+        return buckets.computeIfAbsent(index, k -> new IntBag());
+    }
+
+    // El menor u más cercano con dist(u) + w == dist(v); los empates de peso cero se enlazan por anchura.
+    private int[] predecessors(int source, double[] dist) {
+        int n = graph.nodeCount();
+        int[] prev = new int[n];
+        Arrays.fill(prev, -1);
+        pool.submit(() -> IntStream.range(0, n).parallel().forEach(v -> {
+            if (v == source || dist[v] == Double.POSITIVE_INFINITY) {
+                return;
+            }
+            for (int a = graph.firstArc(v); a < graph.endArc(v); a++) {
+                int u = graph.arcTarget(a);
+                if (dist[u] < dist[v] && dist[u] + graph.arcWeight(a) == dist[v]
+                        && (prev[v] < 0 || u < prev[v])) {
+                    prev[v] = u;
+                }
+            }
+        })).join();
+
+        IntBag queue = new IntBag();
+        for (int v = 0; v < n; v++) {
+            if (v == source || prev[v] >= 0) {
+                queue.add(v);
+            }
+        }
+        for (int k = 0; k < queue.size; k++) {
+            int u = queue.items[k];
+            for (int a = graph.firstArc(u); a < graph.endArc(u); a++) {
+                int v = graph.arcTarget(a);
+                if (v != source && prev[v] < 0 && dist[v] == dist[u] && graph.arcWeight(a) == 0.0) {
+                    prev[v] = u;
+                    queue.add(v);
+                }
+            }
+        }
+        return prev;
+    }
+
+    private static final class IntBag {
+        int[] items = new int[8];
+        int size;
+
+        void add(int value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+}
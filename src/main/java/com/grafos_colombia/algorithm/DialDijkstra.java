@@ -0,0 +1,218 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Dijkstra con la cola de cubetas de Dial sobre pesos enteros en décimas de km: un anillo de maxWeight + 1
+// cubetas y distancias sumadas exactas; forGraph() usa el motor con heap si los pesos no caben.
+public final class DialDijkstra implements SingleSourceSolver {
+
+    public static final int SCALE = 10;
+    private static final int MAX_SCALED_WEIGHT = 1 << 16;
+    private static final double SCALE_TOLERANCE = 1e-6;
+
+    private static SingleSourceSolver shared;
+
+    private final CsrGraph graph;
+    private final int[] scaledWeights;
+    private final int bucketCount;
+
+    private DialDijkstra(CsrGraph graph, int[] scaledWeights, int maxWeight) {
+        this.graph = graph;
+        this.scaledWeights = scaledWeights;
+        this.bucketCount = maxWeight + 1;
+    }
+
+    // Uno por grafo, compartido; el motor con heap si los pesos no caben.
+    public static synchronized SingleSourceSolver forGraph(CsrGraph graph) {
+        if (shared == null || shared.getGraph() != graph) {
+            DialDijkstra dial = create(graph);
+            shared = dial != null ? dial : new DijkstraEngine(graph);
+        }
+        return shared;
+    }
+
+    // null si algún peso no es múltiplo de 1/SCALE o supera MAX_SCALED_WEIGHT.
+    public static DialDijkstra create(CsrGraph graph) {
+        int[] scaled = new int[graph.arcCount()];
+        int max = 0;
+        for (int a = 0; a < scaled.length; a++) {
+            double value = graph.arcWeight(a) * SCALE;
+            long rounded = Math.round(value);
+            if (rounded < 0 || rounded > MAX_SCALED_WEIGHT || Math.abs(value - rounded) > SCALE_TOLERANCE) {
+                return null;
+            }
+            scaled[a] = (int) rounded;
+            max = Math.max(max, scaled[a]);
+        }
+        return new DialDijkstra(graph, scaled, max);
+    }
+
+    @Override
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public PathResult shortestPath(String start, String end) {
+        int s = graph.idOf(start);
+        int t = graph.idOf(end);
+        if (s < 0 || t < 0) {
+            return new PathResult(Double.POSITIVE_INFINITY, new ArrayList<>());
+        }
+        Workspace workspace = Workspace.acquire(graph.nodeCount(), bucketCount);
+        run(workspace, s, t);
+        if (workspace.distance(t) == Long.MAX_VALUE) {
+            return new PathResult(Double.POSITIVE_INFINITY, new ArrayList<>());
+        }
+        List<String> path = new ArrayList<>();
+        for (int at = t; at != -1; at = workspace.predecessor(at)) {
+            path.add(graph.nameOf(at));
+        }
+        Collections.reverse(path);
+        return new PathResult(workspace.distance(t) / (double) SCALE, path);
+    }
+
+    @Override
+    public ShortestPathTree shortestPathTree(int source) {
+        Workspace workspace = Workspace.acquire(graph.nodeCount(), bucketCount);
+        run(workspace, source, -1);
+        int n = graph.nodeCount();
+        double[] dist = new double[n];
+        int[] prev = new int[n];
+        for (int v = 0; v < n; v++) {
+            long d = workspace.distance(v);
+            dist[v] = d == Long.MAX_VALUE ? Double.POSITIVE_INFINITY : d / (double) SCALE;
+            prev[v] = workspace.predecessor(v);
+        }
+        return new ShortestPathTree(graph, source, dist, prev);
+    }
+
+    private void run(Workspace w, int source, int target) {
+        w.reach(source, 0, -1);
+        w.insert(source);
+        long current = 0;
+        while (w.size > 0) {
+            int bucket = (int) (current % bucketCount);
+            while (w.head(bucket) == -1) {
+                current++;
+                bucket = (int) (current % bucketCount);
+            }
+            int u = w.head(bucket);
+            w.remove(u);
+            if (u == target) {
+                return;
+            }
+            long du = w.distance(u);
+            for (int a = graph.firstArc(u); a < graph.endArc(u); a++) {
+                int v = graph.arcTarget(a);
+                long newDist = du + scaledWeights[a];
+                if (newDist < w.distance(v)) {
+                    if (w.isQueued(v)) {
+                        w.remove(v);
+                    }
+                    w.reach(v, newDist, u);
+                    w.insert(v);
+                }
+            }
+        }
+    }
+
+    // Estado por hilo; como en SearchWorkspace, una entrada solo vale si su sello es la época actual.
+    private static final class Workspace {
+        private static final ThreadLocal<Workspace> POOL = ThreadLocal.withInitial(Workspace::new);
+
+        long[] dist = new long[0];
+        int[] prev = new int[0];
+        int[] next = new int[0];
+        int[] previous = new int[0];
+        int[] reachedStamp = new int[0];
+        int[] queuedStamp = new int[0];
+        int[] head = new int[0];
+        int[] headStamp = new int[0];
+        int bucketCount;
+        int epoch;
+        int size;
+
+        static Workspace acquire(int nodeCount, int bucketCount) {
+            Workspace workspace = POOL.get();
+            workspace.begin(nodeCount, bucketCount);
+            return workspace;
+        }
+
+        void begin(int nodeCount, int buckets) {
+            if (nodeCount > dist.length) {
+                dist = new long[nodeCount];
+                prev = new int[nodeCount];
+                next = new int[nodeCount];
+                previous = new int[nodeCount];
+                reachedStamp = new int[nodeCount];
+                queuedStamp = new int[nodeCount];
+            }
+            if (buckets > head.length) {
+                head = new int[buckets];
+                headStamp = new int[buckets];
+            }
+            if (epoch == Integer.MAX_VALUE) {
+                Arrays.fill(reachedStamp, 0);
+                Arrays.fill(queuedStamp, 0);
+                Arrays.fill(headStamp, 0);
+                epoch = 0;
+            }
+            epoch++;
+            bucketCount = buckets;
+            size = 0;
+        }
+
+        long distance(int v) {
+            return reachedStamp[v] == epoch ? dist[v] : Long.MAX_VALUE;
+        }
+
+        int predecessor(int v) {
+            return reachedStamp[v] == epoch ? prev[v] : -1;
+        }
+
+        void reach(int v, long distance, int predecessor) {
+            reachedStamp[v] = epoch;
+            dist[v] = distance;
+            prev[v] = predecessor;
+        }
+
+        boolean isQueued(int v) {
+            return queuedStamp[v] == epoch;
+        }
+
+        int head(int bucket) {
+            return headStamp[bucket] == epoch ? head[bucket] : -1;
+        }
+
+        void insert(int v) {
+            int bucket = (int) (dist[v] % bucketCount);
+            int first = head(bucket);
+            next[v] = first;
+            previous[v] = -1;
+            if (first != -1) {
+                previous[first] = v;
+            }
+            head[bucket] = v;
+            headStamp[bucket] = epoch;
+            queuedStamp[v] = epoch;
+            size++;
+        }
+
+        void remove(int v) {
+            if (previous[v] != -1) {
+                next[previous[v]] = next[v];
+            } else {
+                head[(int) (dist[v] % bucketCount)] = next[v];
+            }
+            if (next[v] != -1) {
+                previous[next[v]] = previous[v];
+            }
+            queuedStamp[v] = 0;
+            size--;
+        }
+    }
+}
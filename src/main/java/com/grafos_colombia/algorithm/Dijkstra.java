@@ -1,5 +1,6 @@
 package com.grafos_colombia.algorithm;
 
+import com.grafos_colombia.graph.CsrGraph;
 import com.grafos_colombia.graph.Node;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -10,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 public class Dijkstra {
 
@@ -70,136 +72,63 @@ public class Dijkstra {
         return new PathResult(dist.get(end), path);
     }
 
-    private static double calculatePathDistance(List<String> path, Map<String, List<Node>> adjList) {
-        if (path == null || path.size() < 2) {
-            return Double.POSITIVE_INFINITY;
-        }
-
-        double distance = 0.0;
-        for (int i = 0; i < path.size() - 1; i++) {
-            String current = path.get(i);
-            String next = path.get(i + 1);
-            boolean found = false;
-            for (Node neighbor : adjList.getOrDefault(current, Collections.emptyList())) {
-                if (neighbor.getValue().equals(next)) {
-                    distance += neighbor.getWeight();
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
-                return Double.POSITIVE_INFINITY;
-            }
-        }
-        return distance;
+    public static PathResult dijkstra(String start, String end, CsrGraph graph) {
+        return new DijkstraEngine(graph).shortestPath(start, end);
     }
 
-    private static Map<String, List<Node>> cloneGraph(Map<String, List<Node>> adjList) {
-        Map<String, List<Node>> clone = new HashMap<>();
-        for (Map.Entry<String, List<Node>> entry : adjList.entrySet()) {
-            List<Node> neighbors = new ArrayList<>();
-            for (Node neighbor : entry.getValue()) {
-                neighbors.add(new Node(neighbor.getValue(), neighbor.getWeight()));
-            }
-            clone.put(entry.getKey(), neighbors);
-        }
-        return clone;
+    public static PathResult bidirectional(String start, String end, CsrGraph graph) {
+        return new BidirectionalDijkstra(graph).shortestPath(start, end);
     }
 
-    private static void removeEdge(Map<String, List<Node>> graph, String from, String to) {
-        if (graph.containsKey(from)) {
-            graph.get(from).removeIf(node -> node.getValue().equals(to));
-        }
-        if (graph.containsKey(to)) {
-            graph.get(to).removeIf(node -> node.getValue().equals(from));
-        }
+    public static PathResult aStar(String start, String end, CsrGraph graph) {
+        return AStarSearch.forGraph(graph).shortestPath(start, end);
     }
 
-    private static void removeNode(Map<String, List<Node>> graph, String node) {
-        graph.remove(node);
-        for (List<Node> neighbors : graph.values()) {
-            neighbors.removeIf(n -> n.getValue().equals(node));
-        }
+    // Cola de cubetas de Dial si los pesos caben como décimas enteras; si no, el motor con heap.
+    public static PathResult bucketQueue(String start, String end, CsrGraph graph) {
+        SingleSourceSolver solver = DialDijkstra.forGraph(graph);
+        return solver instanceof DialDijkstra ? ((DialDijkstra) solver).shortestPath(start, end)
+                : dijkstra(start, end, graph);
     }
 
-    private static class PathCandidate {
-        final List<String> path;
-        final double distance;
-
-        PathCandidate(List<String> path, double distance) {
-            this.path = path;
-            this.distance = distance;
-        }
+    public static PathResult alt(String start, String end, AltLandmarks landmarks) {
+        return landmarks.shortestPath(start, end);
     }
 
-    public static PathResult findAlternativePath(String start, String end,
-                                                  Map<String, List<Node>> adjList,
-                                                  List<String> primaryPath) {
-        if (primaryPath == null || primaryPath.size() < 2) {
-            return null;
-        }
-
-        List<PathResult> shortestPaths = new ArrayList<>();
-        shortestPaths.add(new PathResult(calculatePathDistance(primaryPath, adjList), primaryPath));
-
-        PriorityQueue<PathCandidate> candidates = new PriorityQueue<>(Comparator.comparingDouble(c -> c.distance));
-
-        for (int i = 0; i < primaryPath.size() - 1; i++) {
-            String spurNode = primaryPath.get(i);
-            List<String> rootPath = new ArrayList<>(primaryPath.subList(0, i + 1));
-
-            Map<String, List<Node>> modifiedGraph = cloneGraph(adjList);
-
-            for (PathResult pathResult : shortestPaths) {
-                List<String> path = pathResult.path;
-                if (path.size() > i && rootPath.equals(path.subList(0, i + 1))) {
-                    String u = path.get(i);
-                    String v = path.get(i + 1);
-                    removeEdge(modifiedGraph, u, v);
-                }
-            }
-
-            for (int j = 0; j < rootPath.size() - 1; j++) {
-                String nodeToRemove = rootPath.get(j);
-                removeNode(modifiedGraph, nodeToRemove);
-            }
+    public static ShortestPathTree shortestPathTree(String source, CsrGraph graph) {
+        return new DijkstraEngine(graph).shortestPathTree(source);
+    }
 
-            PathResult spurResult = dijkstra(spurNode, end, modifiedGraph);
-            if (spurResult == null || spurResult.path == null || spurResult.path.isEmpty() ||
-                    spurResult.distance == Double.POSITIVE_INFINITY) {
-                continue;
-            }
+    public static ShortestPathTree deltaStepping(String source, CsrGraph graph, double delta) {
+        return new DeltaStepping(graph, delta, ForkJoinPool.commonPool()).shortestPathTree(source);
+    }
 
-            List<String> totalPath = new ArrayList<>(rootPath);
-            totalPath.remove(totalPath.size() - 1);
-            totalPath.addAll(spurResult.path);
+    public static List<PathResult> findKShortestPaths(String start, String end, CsrGraph graph, int k) {
+        return new YenKShortestPaths(graph).findKShortestPaths(start, end, k);
+    }
 
-            double totalDistance = calculatePathDistance(totalPath, adjList);
-            if (totalDistance == Double.POSITIVE_INFINITY) {
-                continue;
-            }
+    public static List<PathResult> findKShortestPathsParallel(String start, String end, CsrGraph graph, int k) {
+        return new YenKShortestPaths(graph, true).findKShortestPaths(start, end, k);
+    }
 
-            PathCandidate candidate = new PathCandidate(totalPath, totalDistance);
+    public static List<PathResult> findDissimilarRoutes(String start, String end, CsrGraph graph, int maxRoutes,
+                                                        double maxOverlap, double maxStretch) {
+        return new AlternativeRoutes(graph, maxOverlap, maxStretch).find(start, end, maxRoutes);
+    }
 
-            boolean duplicate = false;
-            for (PathResult result : shortestPaths) {
-                if (result.path.equals(candidate.path)) {
-                    duplicate = true;
-                    break;
-                }
-            }
-            if (!duplicate) {
-                candidates.add(candidate);
-            }
-        }
+    public static PathResult findAlternativePath(String start, String end, CsrGraph graph,
+                                                  List<String> primaryPath) {
+        return new YenKShortestPaths(graph).findAlternativePath(start, end, primaryPath);
+    }
 
-        while (!candidates.isEmpty()) {
-            PathCandidate candidate = candidates.poll();
-            if (!candidate.path.equals(primaryPath)) {
-                return new PathResult(candidate.distance, candidate.path);
-            }
-        }
+    public static PathResult findAlternativePathParallel(String start, String end, CsrGraph graph,
+                                                          List<String> primaryPath) {
+        return new YenKShortestPaths(graph, true).findAlternativePath(start, end, primaryPath);
+    }
 
-        return null;
+    public static PathResult findAlternativePath(String start, String end,
+                                                  Map<String, List<Node>> adjList,
+                                                  List<String> primaryPath) {
+        return findAlternativePath(start, end, CsrGraph.fromAdjList(adjList), primaryPath);
     }
 }
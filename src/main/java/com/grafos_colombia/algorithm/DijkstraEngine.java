@@ -0,0 +1,103 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+// Dijkstra sobre CsrGraph con heap indexado de grado 4; el estado vive en el SearchWorkspace del hilo.
+public final class DijkstraEngine implements SingleSourceSolver {
+
+    private final CsrGraph graph;
+
+    public DijkstraEngine(CsrGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public PathResult shortestPath(String start, String end) {
+        int s = graph.idOf(start);
+        int t = graph.idOf(end);
+        if (s < 0 || t < 0) {
+            return new PathResult(Double.POSITIVE_INFINITY, new ArrayList<>());
+        }
+        return shortestPath(s, t);
+    }
+
+    public PathResult shortestPath(int s, int t) {
+        SearchWorkspace workspace = SearchWorkspace.acquire(graph.nodeCount());
+        double distance = search(workspace, s, t, null, null);
+        return new PathResult(distance, buildPath(workspace, t));
+    }
+
+    public ShortestPathTree shortestPathTree(String source) {
+        int s = graph.idOf(source);
+        return s >= 0 ? shortestPathTree(s) : null;
+    }
+
+    @Override
+    public ShortestPathTree shortestPathTree(int s) {
+        SearchWorkspace workspace = SearchWorkspace.acquire(graph.nodeCount());
+        search(workspace, s, -1, null, null);
+
+        int n = graph.nodeCount();
+        double[] dist = new double[n];
+        int[] prev = new int[n];
+        for (int v = 0; v < n; v++) {
+            dist[v] = workspace.distance(v);
+            prev[v] = workspace.predecessor(v);
+        }
+        return new ShortestPathTree(graph, s, dist, prev);
+    }
+
+    // No entra a nodos prohibidos ni relaja arcos prohibidos (índices CSR); las máscaras pueden ser null.
+    double search(SearchWorkspace workspace, int s, int t, BitSet bannedNodes, BitSet bannedArcs) {
+        IndexedDaryHeap heap = workspace.heap();
+        workspace.reach(s, 0.0, -1);
+        heap.insertOrDecrease(s, 0.0);
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            workspace.settle(u);
+            if (u == t) {
+                break;
+            }
+            double du = workspace.distance(u);
+            for (int a = graph.firstArc(u); a < graph.endArc(u); a++) {
+                if (bannedArcs != null && bannedArcs.get(a)) {
+                    continue;
+                }
+                int v = graph.arcTarget(a);
+                if (bannedNodes != null && bannedNodes.get(v)) {
+                    continue;
+                }
+                double newDist = du + graph.arcWeight(a);
+                if (newDist < workspace.distance(v)) {
+                    workspace.reach(v, newDist, u);
+                    heap.insertOrDecrease(v, newDist);
+                }
+            }
+        }
+        return t >= 0 ? workspace.distance(t) : 0.0;
+    }
+
+    private List<String> buildPath(SearchWorkspace workspace, int t) {
+        if (workspace.distance(t) == Double.POSITIVE_INFINITY) {
+            return new ArrayList<>();
+        }
+        int[] buffer = workspace.pathBuffer();
+        int length = 0;
+        for (int at = t; at != -1; at = workspace.predecessor(at)) {
+            buffer[length++] = at;
+        }
+        List<String> path = new ArrayList<>(length);
+        for (int i = length - 1; i >= 0; i--) {
+            path.add(graph.nameOf(buffer[i]));
+        }
+        return path;
+    }
+}
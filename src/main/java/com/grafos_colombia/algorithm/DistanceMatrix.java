@@ -0,0 +1,114 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Distancias de muchos orígenes a muchos destinos: una búsqueda por origen en paralelo, o cubetas con una
+// ContractionHierarchy. Pares desconocidos o inalcanzables valen infinito.
+public final class DistanceMatrix {
+
+    private final CsrGraph graph;
+    private final List<String> sources;
+    private final List<String> targets;
+    private final double[][] distances;
+    private final ShortestPathTree[] trees;
+    private final ContractionHierarchy hierarchy;
+
+    private DistanceMatrix(CsrGraph graph, List<String> sources, List<String> targets, double[][] distances,
+                           ShortestPathTree[] trees, ContractionHierarchy hierarchy) {
+        this.graph = graph;
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+        this.trees = trees;
+        this.hierarchy = hierarchy;
+    }
+
+    public static DistanceMatrix compute(CsrGraph graph, List<String> sources, List<String> targets) {
+        return compute(graph, sources, targets, false);
+    }
+
+    public static DistanceMatrix compute(CsrGraph graph, List<String> sources, List<String> targets,
+                                         boolean keepPaths) {
+        List<String> sourceList = new ArrayList<>(sources);
+        List<String> targetList = new ArrayList<>(targets);
+        int[] targetIds = ids(graph, targetList);
+        double[][] distances = new double[sourceList.size()][];
+        ShortestPathTree[] trees = keepPaths ? new ShortestPathTree[sourceList.size()] : null;
+        DijkstraEngine engine = new DijkstraEngine(graph);
+
+        IntStream.range(0, sourceList.size()).parallel().forEach(i -> {
+            double[] row = new double[targetIds.length];
+            Arrays.fill(row, Double.POSITIVE_INFINITY);
+            ShortestPathTree tree = engine.shortestPathTree(sourceList.get(i));
+            if (tree != null) {
+                for (int j = 0; j < targetIds.length; j++) {
+                    if (targetIds[j] >= 0) {
+                        row[j] = tree.distanceTo(targetIds[j]);
+                    }
+                }
+                if (trees != null) {
+                    trees[i] = tree;
+                }
+            }
+            distances[i] = row;
+        });
+        return new DistanceMatrix(graph, sourceList, targetList, distances, trees, null);
+    }
+
+    public static DistanceMatrix compute(ContractionHierarchy hierarchy, List<String> sources, List<String> targets) {
+        CsrGraph graph = hierarchy.getGraph();
+        List<String> sourceList = new ArrayList<>(sources);
+        List<String> targetList = new ArrayList<>(targets);
+        double[][] distances = hierarchy.manyToMany(ids(graph, sourceList), ids(graph, targetList));
+        return new DistanceMatrix(graph, sourceList, targetList, distances, null, hierarchy);
+    }
+
+    private static int[] ids(CsrGraph graph, List<String> names) {
+        int[] ids = new int[names.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = graph.idOf(names.get(i));
+        }
+        return ids;
+    }
+
+    public List<String> getSources() {
+        return sources;
+    }
+
+    public List<String> getTargets() {
+        return targets;
+    }
+
+    public double[][] getDistances() {
+        return distances;
+    }
+
+    public double distance(int sourceIndex, int targetIndex) {
+        return distances[sourceIndex][targetIndex];
+    }
+
+    public double distance(String source, String target) {
+        int i = sources.indexOf(source);
+        int j = targets.indexOf(target);
+        return i >= 0 && j >= 0 ? distances[i][j] : Double.POSITIVE_INFINITY;
+    }
+
+    public List<String> path(int sourceIndex, int targetIndex) {
+        if (distances[sourceIndex][targetIndex] == Double.POSITIVE_INFINITY) {
+            return new ArrayList<>();
+        }
+        String target = targets.get(targetIndex);
+        if (trees != null) {
+            return trees[sourceIndex].pathTo(target);
+        }
+        String source = sources.get(sourceIndex);
+        PathResult result = hierarchy != null
+                ? hierarchy.shortestPath(source, target)
+                : new DijkstraEngine(graph).shortestPath(source, target);
+        return result.path;
+    }
+}
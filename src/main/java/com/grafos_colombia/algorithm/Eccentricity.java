@@ -1,5 +1,6 @@
 package com.grafos_colombia.algorithm;
 
+import com.grafos_colombia.graph.CsrGraph;
 import com.grafos_colombia.graph.Node;
 import java.util.List;
 import java.util.Map;
@@ -25,23 +26,22 @@ public class Eccentricity {
         if (!adjList.containsKey(startNode)) {
             return null;
         }
+        return fromTree(Dijkstra.shortestPathTree(startNode, CsrGraph.fromAdjList(adjList)));
+    }
 
-        double maxDistance = 0.0;
-        String farthestNode = null;
-        List<String> longestPath = null;
-
-        for (String targetNode : adjList.keySet()) {
-            if (startNode.equals(targetNode)) continue;
-
-            PathResult result = Dijkstra.dijkstra(startNode, targetNode, adjList);
-
-            if (result != null && result.distance > maxDistance) {
-                maxDistance = result.distance;
-                farthestNode = targetNode;
-                longestPath = result.path;
-            }
+    public static EccentricityResult calculate(String startNode, CsrGraph graph) {
+        if (!graph.contains(startNode)) {
+            return null;
         }
+        return fromTree(ShortestPathTreeCache.of(graph).get(startNode));
+    }
 
-        return new EccentricityResult(maxDistance, farthestNode, longestPath);
+    public static EccentricityResult fromTree(ShortestPathTree tree) {
+        int farthest = tree.farthestNode();
+        if (farthest < 0) {
+            return new EccentricityResult(0.0, null, null);
+        }
+        return new EccentricityResult(tree.distanceTo(farthest),
+                tree.getGraph().nameOf(farthest), tree.pathTo(farthest));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Floyd-Warshall por bloques de TILE x TILE sobre una matriz plana; los saltos se derivan al final por anchura
+// sobre los arcos ajustados (sin ciclos con pesos cero). Más de AllPairsMatrix.MAX_NODES nodos se rechaza.
+public final class FloydWarshall {
+
+    static final int TILE = 64;
+    private static final double TIGHT_TOLERANCE = 1e-9;
+
+    private FloydWarshall() {
+    }
+
+    public static AllPairsMatrix compute(CsrGraph graph) {
+        return compute(graph, ForkJoinPool.commonPool());
+    }
+
+    public static AllPairsMatrix compute(CsrGraph graph, ForkJoinPool pool) {
+        int n = graph.nodeCount();
+        AllPairsMatrix.checkSize(n);
+        double[] dist = new double[n * n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < n; i++) {
+            dist[i * n + i] = 0.0;
+            for (int a = graph.firstArc(i); a < graph.endArc(i); a++) {
+                int j = graph.arcTarget(a);
+                dist[i * n + j] = Math.min(dist[i * n + j], graph.arcWeight(a));
+            }
+        }
+
+        int tiles = (n + TILE - 1) / TILE;
+        for (int kb = 0; kb < tiles; kb++) {
+            int k = kb;
+            relaxTile(dist, n, k, k, k);
+            pool.submit(() -> IntStream.range(0, tiles).parallel().filter(b -> b != k).forEach(b -> {
+                relaxTile(dist, n, k, k, b);
+                relaxTile(dist, n, k, b, k);
+            })).join();
+            pool.submit(() -> IntStream.range(0, tiles).parallel().filter(ib -> ib != k).forEach(ib -> {
+                for (int jb = 0; jb < tiles; jb++) {
+                    if (jb != k) {
+                        relaxTile(dist, n, k, ib, jb);
+                    }
+                }
+            })).join();
+        }
+
+        int[] next = new int[n * n];
+        pool.submit(() -> IntStream.range(0, n).parallel().forEach(j -> nextHopsTowards(graph, dist, next, j))).join();
+        return new AllPairsMatrix(graph, dist, next);
+    }
+
+    // d(i, j) = min(d(i, j), d(i, k) + d(k, j)) con k en el bloque kb, i en ib y j en jb.
+    private static void relaxTile(double[] dist, int n, int kb, int ib, int jb) {
+        int kEnd = Math.min(n, (kb + 1) * TILE);
+        int iEnd = Math.min(n, (ib + 1) * TILE);
+        int jStart = jb * TILE;
+        int jEnd = Math.min(n, jStart + TILE);
+        for (int k = kb * TILE; k < kEnd; k++) {
+            int rowK = k * n;
+            for (int i = ib * TILE; i < iEnd; i++) {
+                int rowI = i * n;
+                double dik = dist[rowI + k];
+                if (dik == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int j = jStart; j < jEnd; j++) {
+                    double candidate = dik + dist[rowK + j];
+                    if (candidate < dist[rowI + j]) {
+                        dist[rowI + j] = candidate;
+                    }
+                }
+            }
+        }
+    }
+
+    // Columna j de los saltos: BFS desde j por los arcos (u, v) con w + d(v, j) == d(u, j).
+    private static void nextHopsTowards(CsrGraph graph, double[] dist, int[] next, int j) {
+        int n = graph.nodeCount();
+        for (int u = 0; u < n; u++) {
+            next[u * n + j] = -1;
+        }
+        next[j * n + j] = j;
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = j;
+        while (head < tail) {
+            int v = queue[head++];
+            double dv = dist[v * n + j];
+            for (int a = graph.firstArc(v); a < graph.endArc(v); a++) {
+                int u = graph.arcTarget(a);
+                double du = dist[u * n + j];
+                if (next[u * n + j] < 0 && Math.abs(dv + graph.arcWeight(a) - du) <= TIGHT_TOLERANCE * Math.max(1.0, du)) {
+                    next[u * n + j] = v;
+                    queue[tail++] = u;
+                }
+            }
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.grafos_colombia.algorithm;
 
+import com.grafos_colombia.graph.CsrGraph;
 import com.grafos_colombia.graph.Node;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 
 public class GraphMetrics {
@@ -15,7 +18,7 @@ public class GraphMetrics {
         public final double radio;
         public final double diametro;
         public final List<String> centro;
-        public final Map<String, Double> excentricidades; // Excentricidad de cada nodo
+        public final Map<String, Double> excentricidades;
         public final Map<String, Eccentricity.EccentricityResult> detallesExcentricidad;
         public final String nodoReferenciaRadio;
         public final String nodoReferenciaDiametro;
@@ -58,30 +61,124 @@ public class GraphMetrics {
         if (adjList == null || adjList.isEmpty()) {
             return null;
         }
+        return calcularMetricas(CsrGraph.fromAdjList(adjList));
+    }
+
+    public static GraphMetricsResult calcularMetricas(CsrGraph graph) {
+        return graph == null ? null : calcularMetricas(graph, new DijkstraEngine(graph));
+    }
+
+    // Un árbol por nodo, en orden, con el solver indicado (p. ej. DeltaStepping para grafos grandes).
+    public static GraphMetricsResult calcularMetricas(CsrGraph graph, SingleSourceSolver solver) {
+        if (graph == null || graph.nodeCount() == 0) {
+            return null;
+        }
+        if (graph.nodeCount() == 1) {
+            return resultadoNodoUnico(graph.nameOf(0));
+        }
+
+        Eccentricity.EccentricityResult[] resultados = new Eccentricity.EccentricityResult[graph.nodeCount()];
+        for (int v = 0; v < resultados.length; v++) {
+            resultados[v] = Eccentricity.fromTree(solver.shortestPathTree(v));
+        }
+        return construirResultado(graph, resultados);
+    }
+
+    // Radio, diámetro y centro leídos de una matriz de todos los pares (p. ej. FloydWarshall), sin más búsquedas.
+    public static GraphMetricsResult calcularMetricas(AllPairsMatrix matriz) {
+        if (matriz == null || matriz.size() == 0) {
+            return null;
+        }
+        CsrGraph graph = matriz.getGraph();
+        if (matriz.size() == 1) {
+            return resultadoNodoUnico(graph.nameOf(0));
+        }
+
+        Eccentricity.EccentricityResult[] resultados = new Eccentricity.EccentricityResult[matriz.size()];
+        for (int v = 0; v < resultados.length; v++) {
+            resultados[v] = matriz.eccentricity(v);
+        }
+        return construirResultado(graph, resultados);
+    }
+
+    // Radio, diámetro y centro a partir de excentricidades mantenidas incrementalmente.
+    public static GraphMetricsResult calcularMetricas(IncrementalEccentricities excentricidades) {
+        CsrGraph graph = excentricidades.getGraph();
+        if (graph.nodeCount() == 0) {
+            return null;
+        }
+        if (graph.nodeCount() == 1) {
+            return resultadoNodoUnico(graph.nameOf(0));
+        }
+        return construirResultado(graph, excentricidades.eccentricities());
+    }
+
+    public static GraphMetricsResult calcularMetricasParalelo(CsrGraph graph) {
+        return calcularMetricasParalelo(graph, ForkJoinPool.commonPool());
+    }
+
+    // Una búsqueda de un solo origen por nodo, repartidas en el pool; cada hilo usa su propio SearchWorkspace.
+    // No pasa por el ShortestPathTreeCache: cada árbol se usa una sola vez y desplazaría los de las rutas.
+    public static GraphMetricsResult calcularMetricasParalelo(CsrGraph graph, ForkJoinPool pool) {
+        if (graph == null || graph.nodeCount() == 0) {
+            return null;
+        }
+        if (graph.nodeCount() == 1) {
+            return resultadoNodoUnico(graph.nameOf(0));
+        }
+
+        Eccentricity.EccentricityResult[] resultados = new Eccentricity.EccentricityResult[graph.nodeCount()];
+        DijkstraEngine engine = new DijkstraEngine(graph);
+        pool.submit(() -> IntStream.range(0, resultados.length).parallel()
+                .forEach(v -> resultados[v] = Eccentricity.fromTree(engine.shortestPathTree(v))))
+                .join();
+        return construirResultado(graph, resultados);
+    }
 
-    
-        if (adjList.size() == 1) {
-            String unicoNodo = adjList.keySet().iterator().next();
-            Map<String, Double> excentricidades = new HashMap<>();
-            excentricidades.put(unicoNodo, 0.0);
-            Map<String, Eccentricity.EccentricityResult> detalles = new HashMap<>();
-            detalles.put(unicoNodo, new Eccentricity.EccentricityResult(0.0, unicoNodo, List.of(unicoNodo)));
-            List<String> centro = new ArrayList<>();
-            centro.add(unicoNodo);
-            return new GraphMetricsResult(
-                    0.0,
-                    0.0,
-                    centro,
-                    excentricidades,
-                    detalles,
-                    unicoNodo,
-                    unicoNodo,
-                    List.of(unicoNodo),
-                    List.of(unicoNodo),
-                    List.of(unicoNodo),
-                    List.of(unicoNodo));
+    // Las cotas de excentricidad fijan radio, diámetro y centro; las excentricidades que descartaron
+    // se completan después (en paralelo) para que la tabla de métricas muestre todos los nodos.
+    public static GraphMetricsResult calcularMetricasAcotadas(CsrGraph graph) {
+        if (graph == null || graph.nodeCount() == 0) {
+            return null;
+        }
+        if (graph.nodeCount() == 1) {
+            return resultadoNodoUnico(graph.nameOf(0));
         }
 
+        Eccentricity.EccentricityResult[] resultados = BoundingDiameters.calculate(graph);
+        if (resultados == null) {
+            return null;
+        }
+        DijkstraEngine engine = new DijkstraEngine(graph);
+        ForkJoinPool.commonPool().submit(() -> IntStream.range(0, resultados.length).parallel()
+                .filter(v -> resultados[v] == null)
+                .forEach(v -> resultados[v] = Eccentricity.fromTree(engine.shortestPathTree(v))))
+                .join();
+        return construirResultado(graph, resultados);
+    }
+
+    private static GraphMetricsResult resultadoNodoUnico(String unicoNodo) {
+        Map<String, Double> excentricidades = new HashMap<>();
+        excentricidades.put(unicoNodo, 0.0);
+        Map<String, Eccentricity.EccentricityResult> detalles = new HashMap<>();
+        detalles.put(unicoNodo, new Eccentricity.EccentricityResult(0.0, unicoNodo, List.of(unicoNodo)));
+        List<String> centro = new ArrayList<>();
+        centro.add(unicoNodo);
+        return new GraphMetricsResult(
+                0.0,
+                0.0,
+                centro,
+                excentricidades,
+                detalles,
+                unicoNodo,
+                unicoNodo,
+                List.of(unicoNodo),
+                List.of(unicoNodo),
+                List.of(unicoNodo),
+                List.of(unicoNodo));
+    }
+
+    private static GraphMetricsResult construirResultado(CsrGraph graph, Eccentricity.EccentricityResult[] resultados) {
         Map<String, Double> excentricidades = new HashMap<>();
         Map<String, Eccentricity.EccentricityResult> detalles = new HashMap<>();
         double minExcentricidad = Double.POSITIVE_INFINITY;
@@ -95,12 +192,11 @@ public class GraphMetrics {
         List<String> nodosDiametro = new ArrayList<>();
 
  
-        for (String nodo : adjList.keySet()) {
-            Eccentricity.EccentricityResult resultado = Eccentricity.calculate(nodo, adjList);
+        for (int v = 0; v < resultados.length; v++) {
+            String nodo = graph.nameOf(v);
+            Eccentricity.EccentricityResult resultado = resultados[v];
             
             if (resultado == null) {
-  
-                excentricidades.put(nodo, Double.POSITIVE_INFINITY);
                 continue;
             }
 
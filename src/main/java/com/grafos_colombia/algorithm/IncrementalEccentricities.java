@@ -0,0 +1,95 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Excentricidades al día al editar una vía: se guarda un árbol por nodo y solo se repiten las búsquedas
+// cuyo árbol puede cambiar (la vía acorta un camino, o el árbol la usaba y se alargó o se quitó).
+public final class IncrementalEccentricities {
+
+    private final ForkJoinPool pool;
+    private CsrGraph graph;
+    private ShortestPathTree[] trees;
+    private Eccentricity.EccentricityResult[] results;
+
+    public IncrementalEccentricities(CsrGraph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    public IncrementalEccentricities(CsrGraph graph, ForkJoinPool pool) {
+        this.pool = pool;
+        rebuildAll(graph);
+    }
+
+    public synchronized CsrGraph getGraph() {
+        return graph;
+    }
+
+    public synchronized Eccentricity.EccentricityResult eccentricity(int v) {
+        return results[v];
+    }
+
+    public synchronized Eccentricity.EccentricityResult[] eccentricities() {
+        return results.clone();
+    }
+
+    // 'updated' debe salir de getGraph().withEdge/withoutEdge(a, b, ...). Devuelve cuántas búsquedas se repitieron.
+    public synchronized int updateEdge(CsrGraph updated, String a, String b) {
+        int u = graph.idOf(a);
+        int v = graph.idOf(b);
+        if (u < 0 || v < 0 || updated.nodeCount() != graph.nodeCount()) {
+            rebuildAll(updated);
+            return updated.nodeCount();
+        }
+        double before = graph.weightBetween(u, v);
+        double after = updated.weightBetween(u, v);
+
+        int n = graph.nodeCount();
+        boolean[] affected = new boolean[n];
+        int count = 0;
+        for (int s = 0; s < n; s++) {
+            ShortestPathTree tree = trees[s];
+            if (after < before) {
+                affected[s] = tree.distanceTo(u) + after < tree.distanceTo(v)
+                        || tree.distanceTo(v) + after < tree.distanceTo(u);
+            } else if (after > before) {
+                affected[s] = tree.predecessor(v) == u || tree.predecessor(u) == v;
+            }
+            if (affected[s]) {
+                count++;
+            }
+        }
+
+        DijkstraEngine engine = new DijkstraEngine(updated);
+        ShortestPathTree[] newTrees = new ShortestPathTree[n];
+        Eccentricity.EccentricityResult[] newResults = new Eccentricity.EccentricityResult[n];
+        pool.submit(() -> IntStream.range(0, n).parallel().forEach(s -> {
+            if (affected[s]) {
+                newTrees[s] = engine.shortestPathTree(s);
+                newResults[s] = Eccentricity.fromTree(newTrees[s]);
+            } else {
+                newTrees[s] = trees[s].onGraph(updated);
+                newResults[s] = results[s];
+            }
+        })).join();
+        graph = updated;
+        trees = newTrees;
+        results = newResults;
+        return count;
+    }
+
+    private void rebuildAll(CsrGraph updated) {
+        int n = updated.nodeCount();
+        DijkstraEngine engine = new DijkstraEngine(updated);
+        ShortestPathTree[] newTrees = new ShortestPathTree[n];
+        Eccentricity.EccentricityResult[] newResults = new Eccentricity.EccentricityResult[n];
+        pool.submit(() -> IntStream.range(0, n).parallel().forEach(s -> {
+            newTrees[s] = engine.shortestPathTree(s);
+            newResults[s] = Eccentricity.fromTree(newTrees[s]);
+        })).join();
+        graph = updated;
+        trees = newTrees;
+        results = newResults;
+    }
+}
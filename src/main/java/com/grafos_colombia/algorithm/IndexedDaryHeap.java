@@ -0,0 +1,145 @@
+package com.grafos_colombia.algorithm;
+
+import java.util.Arrays;
+
+// Heap mínimo indexado de grado 4 sobre ids 0..capacity-1; position[v] es -1 si v no está en cola.
+public final class IndexedDaryHeap {
+
+    private static final int ARITY = 4;
+
+    private int[] heap;
+    private double[] keys;
+    private int[] position;
+    private int size;
+
+    public IndexedDaryHeap(int capacity) {
+        heap = new int[capacity];
+        keys = new double[capacity];
+        position = new int[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public int capacity() {
+        return position.length;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity <= position.length) {
+            return;
+        }
+        int old = position.length;
+        heap = Arrays.copyOf(heap, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        position = Arrays.copyOf(position, capacity);
+        Arrays.fill(position, old, capacity, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int v) {
+        return position[v] >= 0;
+    }
+
+    public double minKey() {
+        return keys[heap[0]];
+    }
+
+    public int peek() {
+        return heap[0];
+    }
+
+    public double keyOf(int v) {
+        return keys[v];
+    }
+
+    // Inserta v o baja su clave; false si la clave actual ya es menor o igual.
+    public boolean insertOrDecrease(int v, double key) {
+        int slot = position[v];
+        if (slot < 0) {
+            keys[v] = key;
+            heap[size] = v;
+            position[v] = size;
+            siftUp(size++);
+            return true;
+        }
+        if (key >= keys[v]) {
+            return false;
+        }
+        keys[v] = key;
+        siftUp(slot);
+        return true;
+    }
+
+    public int poll() {
+        int min = heap[0];
+        position[min] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int slot) {
+        int v = heap[slot];
+        double key = keys[v];
+        while (slot > 0) {
+            int parentSlot = (slot - 1) / ARITY;
+            int parent = heap[parentSlot];
+            if (keys[parent] <= key) {
+                break;
+            }
+            heap[slot] = parent;
+            position[parent] = slot;
+            slot = parentSlot;
+        }
+        heap[slot] = v;
+        position[v] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int v = heap[slot];
+        double key = keys[v];
+        while (true) {
+            int firstChild = slot * ARITY + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + ARITY, size);
+            int best = firstChild;
+            double bestKey = keys[heap[firstChild]];
+            for (int c = firstChild + 1; c < lastChild; c++) {
+                double childKey = keys[heap[c]];
+                if (childKey < bestKey) {
+                    best = c;
+                    bestKey = childKey;
+                }
+            }
+            if (bestKey >= key) {
+                break;
+            }
+            int child = heap[best];
+            heap[slot] = child;
+            position[child] = slot;
+            slot = best;
+        }
+        heap[slot] = v;
+        position[v] = slot;
+    }
+}
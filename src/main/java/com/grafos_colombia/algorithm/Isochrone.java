@@ -0,0 +1,111 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Lugares a 'radius' km o menos de un centro: Dijkstra acotado, con las aristas del árbol y las de frontera
+// (con la fracción que queda dentro del radio, para dibujar el contorno).
+public final class Isochrone {
+
+    public static final class BoundaryEdge {
+        public final String from;
+        public final String to;
+        public final double reachedFraction;
+
+        BoundaryEdge(String from, String to, double reachedFraction) {
+            this.from = from;
+            this.to = to;
+            this.reachedFraction = reachedFraction;
+        }
+    }
+
+    private final String center;
+    private final double radius;
+    private final Map<String, Double> distances;
+    private final List<String[]> treeEdges;
+    private final List<BoundaryEdge> boundaryEdges;
+
+    private Isochrone(String center, double radius, Map<String, Double> distances,
+                      List<String[]> treeEdges, List<BoundaryEdge> boundaryEdges) {
+        this.center = center;
+        this.radius = radius;
+        this.distances = distances;
+        this.treeEdges = treeEdges;
+        this.boundaryEdges = boundaryEdges;
+    }
+
+    public static Isochrone compute(CsrGraph graph, String center, double radius) {
+        int s = graph.idOf(center);
+        if (s < 0 || radius < 0) {
+            return null;
+        }
+        SearchWorkspace workspace = SearchWorkspace.acquire(graph.nodeCount());
+        IndexedDaryHeap heap = workspace.heap();
+        workspace.reach(s, 0.0, -1);
+        heap.insertOrDecrease(s, 0.0);
+
+        Map<String, Double> distances = new LinkedHashMap<>();
+        List<String[]> treeEdges = new ArrayList<>();
+        List<Integer> settledOrder = new ArrayList<>();
+        while (!heap.isEmpty() && heap.minKey() <= radius) {
+            int u = heap.poll();
+            workspace.settle(u);
+            settledOrder.add(u);
+            double du = workspace.distance(u);
+            distances.put(graph.nameOf(u), du);
+            if (workspace.predecessor(u) >= 0) {
+                treeEdges.add(new String[] {graph.nameOf(workspace.predecessor(u)), graph.nameOf(u)});
+            }
+            for (int a = graph.firstArc(u); a < graph.endArc(u); a++) {
+                int v = graph.arcTarget(a);
+                double newDist = du + graph.arcWeight(a);
+                if (newDist < workspace.distance(v)) {
+                    workspace.reach(v, newDist, u);
+                    heap.insertOrDecrease(v, newDist);
+                }
+            }
+        }
+
+        List<BoundaryEdge> boundaryEdges = new ArrayList<>();
+        for (int u : settledOrder) {
+            double du = workspace.distance(u);
+            for (int a = graph.firstArc(u); a < graph.endArc(u); a++) {
+                int v = graph.arcTarget(a);
+                if (!workspace.isSettled(v)) {
+                    double w = graph.arcWeight(a);
+                    double fraction = w > 0.0 ? Math.min(1.0, (radius - du) / w) : 1.0;
+                    boundaryEdges.add(new BoundaryEdge(graph.nameOf(u), graph.nameOf(v), fraction));
+                }
+            }
+        }
+        return new Isochrone(center, radius, distances, treeEdges, boundaryEdges);
+    }
+
+    public String getCenter() {
+        return center;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    // Lugares por distancia, el centro primero.
+    public Map<String, Double> getDistances() {
+        return distances;
+    }
+
+    public List<String> getReachable() {
+        return new ArrayList<>(distances.keySet());
+    }
+
+    public List<String[]> getTreeEdges() {
+        return treeEdges;
+    }
+
+    public List<BoundaryEdge> getBoundaryEdges() {
+        return boundaryEdges;
+    }
+}
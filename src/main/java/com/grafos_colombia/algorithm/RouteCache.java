@@ -0,0 +1,157 @@
+package com.grafos_colombia.algorithm;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// Caché LRU de rutas (principal y alternativas) por (origen, destino, k, versión del grafo), acotada por
+// entradas y por bytes; invalidate() la vacía al recargar el grafo.
+public final class RouteCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+    private static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+    private static final long RESULT_OVERHEAD_BYTES = 64;
+    private static final long PATH_SLOT_BYTES = 8;
+
+    private static RouteCache instance;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public RouteCache(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    public static synchronized RouteCache getInstance() {
+        if (instance == null) {
+            instance = new RouteCache(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+        }
+        return instance;
+    }
+
+    public synchronized List<PathResult> get(String origin, String destination, int k, long graphVersion) {
+        Entry entry = entries.get(new Key(origin, destination, k, graphVersion));
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.routes;
+    }
+
+    public synchronized void put(String origin, String destination, int k, long graphVersion, List<PathResult> routes) {
+        Entry entry = new Entry(routes, estimateBytes(routes));
+        Entry previous = entries.put(new Key(origin, destination, k, graphVersion), entry);
+        if (previous != null) {
+            bytes -= previous.bytes;
+        }
+        bytes += entry.bytes;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+            Entry evicted = eldest.next();
+            if (evicted == entry) {
+                break;
+            }
+            bytes -= evicted.bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    // La búsqueda corre fuera del candado: dos hilos que fallen la misma clave pueden calcularla ambos.
+    public List<PathResult> getOrCompute(String origin, String destination, int k, long graphVersion,
+                                         Supplier<List<PathResult>> search) {
+        List<PathResult> cached = get(origin, destination, k, graphVersion);
+        if (cached != null) {
+            return cached;
+        }
+        List<PathResult> routes = search.get();
+        put(origin, destination, k, graphVersion, routes);
+        return routes;
+    }
+
+    public synchronized void invalidate() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized long getEstimatedBytes() {
+        return bytes;
+    }
+
+    private static long estimateBytes(List<PathResult> routes) {
+        long total = ENTRY_OVERHEAD_BYTES;
+        for (PathResult route : routes) {
+            total += RESULT_OVERHEAD_BYTES;
+            if (route != null && route.path != null) {
+                total += PATH_SLOT_BYTES * route.path.size();
+            }
+        }
+        return total;
+    }
+
+    private static final class Entry {
+        final List<PathResult> routes;
+        final long bytes;
+
+        Entry(List<PathResult> routes, long bytes) {
+            this.routes = routes;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class Key {
+        final String origin;
+        final String destination;
+        final int k;
+        final long graphVersion;
+
+        Key(String origin, String destination, int k, long graphVersion) {
+            this.origin = origin;
+            this.destination = destination;
+            this.k = k;
+            this.graphVersion = graphVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return k == other.k && graphVersion == other.graphVersion
+                    && origin.equals(other.origin) && destination.equals(other.destination);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(origin, destination, k, graphVersion);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.grafos_colombia.algorithm;
+
+import java.util.Arrays;
+
+// Estado de búsqueda reutilizable por hilo; una entrada solo vale si su sello es la época actual,
+// así begin() reinicia en O(1).
+public final class SearchWorkspace {
+
+    private static final ThreadLocal<SearchWorkspace> POOL =
+            ThreadLocal.withInitial(() -> new SearchWorkspace(0));
+    private static final ThreadLocal<SearchWorkspace> SECONDARY_POOL =
+            ThreadLocal.withInitial(() -> new SearchWorkspace(0));
+
+    private double[] dist;
+    private int[] prev;
+    private int[] reachedStamp;
+    private int[] settledStamp;
+    private int[] queue;
+    private int[] pathBuffer;
+    private final IndexedDaryHeap heap;
+    private int epoch;
+
+    private SearchWorkspace(int capacity) {
+        dist = new double[capacity];
+        prev = new int[capacity];
+        reachedStamp = new int[capacity];
+        settledStamp = new int[capacity];
+        queue = new int[capacity];
+        pathBuffer = new int[capacity];
+        heap = new IndexedDaryHeap(capacity);
+    }
+
+    public static SearchWorkspace acquire(int nodeCount) {
+        SearchWorkspace workspace = POOL.get();
+        workspace.begin(nodeCount);
+        return workspace;
+    }
+
+    // Segundo espacio del hilo, para búsquedas con dos frentes a la vez.
+    public static SearchWorkspace acquireSecondary(int nodeCount) {
+        SearchWorkspace workspace = SECONDARY_POOL.get();
+        workspace.begin(nodeCount);
+        return workspace;
+    }
+
+    public void begin(int nodeCount) {
+        if (nodeCount > reachedStamp.length) {
+            grow(nodeCount);
+        }
+        heap.clear();
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(reachedStamp, 0);
+            Arrays.fill(settledStamp, 0);
+            epoch = 0;
+        }
+        epoch++;
+    }
+
+    private void grow(int capacity) {
+        dist = Arrays.copyOf(dist, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        reachedStamp = Arrays.copyOf(reachedStamp, capacity);
+        settledStamp = Arrays.copyOf(settledStamp, capacity);
+        queue = new int[capacity];
+        pathBuffer = new int[capacity];
+        heap.ensureCapacity(capacity);
+    }
+
+    public boolean isReached(int v) {
+        return reachedStamp[v] == epoch;
+    }
+
+    public double distance(int v) {
+        return reachedStamp[v] == epoch ? dist[v] : Double.POSITIVE_INFINITY;
+    }
+
+    public int predecessor(int v) {
+        return reachedStamp[v] == epoch ? prev[v] : -1;
+    }
+
+    public void reach(int v, double distance, int predecessor) {
+        reachedStamp[v] = epoch;
+        dist[v] = distance;
+        prev[v] = predecessor;
+    }
+
+    public boolean isSettled(int v) {
+        return settledStamp[v] == epoch;
+    }
+
+    public void settle(int v) {
+        settledStamp[v] = epoch;
+    }
+
+    public IndexedDaryHeap heap() {
+        return heap;
+    }
+
+    public int[] queue() {
+        return queue;
+    }
+
+    public int[] pathBuffer() {
+        return pathBuffer;
+    }
+}
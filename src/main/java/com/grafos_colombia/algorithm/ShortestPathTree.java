@@ -0,0 +1,93 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Árbol de caminos mínimos desde un origen: distancia y predecesor por nodo; las rutas se arman en pathTo.
+public final class ShortestPathTree {
+
+    private final CsrGraph graph;
+    private final int source;
+    private final double[] dist;
+    private final int[] prev;
+
+    public ShortestPathTree(CsrGraph graph, int source, double[] dist, int[] prev) {
+        this.graph = graph;
+        this.source = source;
+        this.dist = dist;
+        this.prev = prev;
+    }
+
+    // El mismo árbol sobre una copia editada del grafo con los mismos ids.
+    ShortestPathTree onGraph(CsrGraph updated) {
+        return new ShortestPathTree(updated, source, dist, prev);
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public int getSource() {
+        return source;
+    }
+
+    public String getSourceName() {
+        return graph.nameOf(source);
+    }
+
+    public double distanceTo(int v) {
+        return dist[v];
+    }
+
+    public double distanceTo(String target) {
+        int v = graph.idOf(target);
+        return v >= 0 ? dist[v] : Double.POSITIVE_INFINITY;
+    }
+
+    public int predecessor(int v) {
+        return prev[v];
+    }
+
+    public boolean isReachable(int v) {
+        return dist[v] != Double.POSITIVE_INFINITY;
+    }
+
+    // Nodo más lejano del origen (los inalcanzables cuentan como infinitos), o -1 si el origen es el único.
+    public int farthestNode() {
+        int farthest = -1;
+        double maxDistance = 0.0;
+        for (int v = 0; v < dist.length; v++) {
+            if (v != source && dist[v] > maxDistance) {
+                maxDistance = dist[v];
+                farthest = v;
+            }
+        }
+        return farthest;
+    }
+
+    public List<String> pathTo(int target) {
+        if (dist[target] == Double.POSITIVE_INFINITY) {
+            return new ArrayList<>();
+        }
+        int length = 0;
+        for (int at = target; at != -1; at = prev[at]) {
+            length++;
+        }
+        String[] path = new String[length];
+        for (int at = target, i = length - 1; at != -1; at = prev[at], i--) {
+            path[i] = graph.nameOf(at);
+        }
+        return new ArrayList<>(Arrays.asList(path));
+    }
+
+    public List<String> pathTo(String target) {
+        int v = graph.idOf(target);
+        return v >= 0 ? pathTo(v) : new ArrayList<>();
+    }
+
+    public PathResult resultTo(String target) {
+        return new PathResult(distanceTo(target), pathTo(target));
+    }
+}
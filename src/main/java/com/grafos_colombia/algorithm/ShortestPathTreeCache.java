@@ -0,0 +1,104 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.LinkedHashMap;
+
+// Caché LRU de árboles de caminos mínimos de un CsrGraph por origen, con presupuesto en bytes (1/16 del heap
+// por defecto); of(graph) devuelve la compartida y empieza otra si cambia el grafo.
+public final class ShortestPathTreeCache {
+
+    private static final long TREE_OVERHEAD_BYTES = 96;
+    private static final long BYTES_PER_NODE = Double.BYTES + Integer.BYTES;
+
+    private static ShortestPathTreeCache shared;
+
+    private final CsrGraph graph;
+    private final DijkstraEngine engine;
+    private final long maxBytes;
+    private final long treeBytes;
+    private final LinkedHashMap<Integer, ShortestPathTree> trees = new LinkedHashMap<>(16, 0.75f, true);
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ShortestPathTreeCache(CsrGraph graph, long maxBytes) {
+        this.graph = graph;
+        this.engine = new DijkstraEngine(graph);
+        this.maxBytes = maxBytes;
+        this.treeBytes = TREE_OVERHEAD_BYTES + BYTES_PER_NODE * graph.nodeCount();
+    }
+
+    public static synchronized ShortestPathTreeCache of(CsrGraph graph) {
+        if (shared == null || shared.graph != graph) {
+            shared = new ShortestPathTreeCache(graph, Runtime.getRuntime().maxMemory() / 16);
+        }
+        return shared;
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public ShortestPathTree get(String source) {
+        int s = graph.idOf(source);
+        return s >= 0 ? get(s) : null;
+    }
+
+    // La búsqueda corre fuera del candado: dos hilos que fallen el mismo origen pueden calcularlo ambos.
+    public ShortestPathTree get(int source) {
+        ShortestPathTree tree = lookup(source);
+        if (tree != null) {
+            return tree;
+        }
+        tree = engine.shortestPathTree(source);
+        store(source, tree);
+        return tree;
+    }
+
+    public synchronized ShortestPathTree getIfPresent(String source) {
+        int s = graph.idOf(source);
+        return s >= 0 ? trees.get(s) : null;
+    }
+
+    private synchronized ShortestPathTree lookup(int source) {
+        ShortestPathTree tree = trees.get(source);
+        if (tree != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return tree;
+    }
+
+    private synchronized void store(int source, ShortestPathTree tree) {
+        if (treeBytes > maxBytes) {
+            return;
+        }
+        trees.put(source, tree);
+        while ((long) trees.size() * treeBytes > maxBytes) {
+            Integer eldest = trees.keySet().iterator().next();
+            trees.remove(eldest);
+            evictions++;
+        }
+    }
+
+    public synchronized void invalidate() {
+        trees.clear();
+    }
+
+    public synchronized int size() {
+        return trees.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+}
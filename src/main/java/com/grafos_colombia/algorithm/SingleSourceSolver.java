@@ -0,0 +1,11 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+
+// Caminos mínimos de un origen a todos (Dijkstra secuencial o delta-stepping en paralelo).
+public interface SingleSourceSolver {
+
+    CsrGraph getGraph();
+
+    ShortestPathTree shortestPathTree(int source);
+}
@@ -0,0 +1,219 @@
+package com.grafos_colombia.algorithm;
+
+import com.grafos_colombia.graph.CsrGraph;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+// K rutas más cortas sin ciclos (Yen), enmascarando nodos y arcos en vez de copiar el grafo; en paralelo
+// da exactamente el mismo resultado que en secuencia.
+public final class YenKShortestPaths {
+
+    private static final int MIN_PARALLEL_SPURS = 8;
+
+    private final CsrGraph graph;
+    private final DijkstraEngine engine;
+    private final boolean parallel;
+    private final ThreadLocal<BitSet[]> masks;
+
+    public YenKShortestPaths(CsrGraph graph) {
+        this(graph, false);
+    }
+
+    public YenKShortestPaths(CsrGraph graph, boolean parallel) {
+        this.graph = graph;
+        this.engine = new DijkstraEngine(graph);
+        this.parallel = parallel;
+        this.masks = ThreadLocal.withInitial(() ->
+                new BitSet[] {new BitSet(graph.nodeCount()), new BitSet(graph.arcCount())});
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public List<PathResult> findKShortestPaths(String start, String end, int k) {
+        int s = graph.idOf(start);
+        int t = graph.idOf(end);
+        if (s < 0 || t < 0 || k <= 0) {
+            return new ArrayList<>();
+        }
+        SearchWorkspace workspace = SearchWorkspace.acquire(graph.nodeCount());
+        if (engine.search(workspace, s, t, null, null) == Double.POSITIVE_INFINITY) {
+            return new ArrayList<>();
+        }
+        return toResults(run(t, k, extractPath(workspace, t)));
+    }
+
+    // Siguiente ruta más corta distinta de primaryPath, o null si no existe.
+    public PathResult findAlternativePath(String start, String end, List<String> primaryPath) {
+        if (primaryPath == null || primaryPath.size() < 2) {
+            return null;
+        }
+        int[] first = new int[primaryPath.size()];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = graph.idOf(primaryPath.get(i));
+            if (first[i] < 0) {
+                return null;
+            }
+        }
+        if (first[0] != graph.idOf(start) || first[first.length - 1] != graph.idOf(end)) {
+            return null;
+        }
+        List<PathResult> paths = toResults(run(first[first.length - 1], 2, first));
+        return paths.size() > 1 ? paths.get(1) : null;
+    }
+
+    private List<Candidate> run(int t, int k, int[] first) {
+        List<Candidate> accepted = new ArrayList<>();
+        Candidate firstCandidate = new Candidate(first, pathCost(first), 0);
+        if (firstCandidate.distance == Double.POSITIVE_INFINITY) {
+            return accepted;
+        }
+        accepted.add(firstCandidate);
+
+        Set<Candidate> seen = new HashSet<>();
+        seen.add(firstCandidate);
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(
+                Comparator.comparingDouble((Candidate c) -> c.distance).thenComparingLong(c -> c.sequence));
+        long sequence = 1;
+
+        while (accepted.size() < k) {
+            int[] last = accepted.get(accepted.size() - 1).nodes;
+            int spurs = last.length - 1;
+            double[] rootCost = new double[spurs];
+            for (int i = 1; i < spurs; i++) {
+                rootCost[i] = rootCost[i - 1] + graph.weightBetween(last[i - 1], last[i]);
+            }
+
+            Candidate[] round;
+            if (parallel && spurs >= MIN_PARALLEL_SPURS) {
+                round = IntStream.range(0, spurs).parallel()
+                        .mapToObj(i -> spurCandidate(accepted, last, i, rootCost[i], t))
+                        .toArray(Candidate[]::new);
+            } else {
+                round = new Candidate[spurs];
+                for (int i = 0; i < spurs; i++) {
+                    round[i] = spurCandidate(accepted, last, i, rootCost[i], t);
+                }
+            }
+
+            for (Candidate spur : round) {
+                if (spur != null && seen.add(spur)) {
+                    spur.sequence = sequence++;
+                    candidates.add(spur);
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            accepted.add(candidates.poll());
+        }
+        return accepted;
+    }
+
+    private Candidate spurCandidate(List<Candidate> accepted, int[] last, int i, double rootCost, int t) {
+        BitSet[] threadMasks = masks.get();
+        BitSet bannedNodes = threadMasks[0];
+        BitSet bannedArcs = threadMasks[1];
+        bannedNodes.clear();
+        bannedArcs.clear();
+        for (int j = 0; j < i; j++) {
+            bannedNodes.set(last[j]);
+        }
+        for (Candidate path : accepted) {
+            int[] nodes = path.nodes;
+            if (nodes.length > i + 1 && samePrefix(nodes, last, i + 1)) {
+                banArcs(bannedArcs, nodes[i], nodes[i + 1]);
+            }
+        }
+
+        SearchWorkspace workspace = SearchWorkspace.acquire(graph.nodeCount());
+        double spurCost = engine.search(workspace, last[i], t, bannedNodes, bannedArcs);
+        if (spurCost == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        int[] spurPath = extractPath(workspace, t);
+        int[] total = Arrays.copyOf(last, i + spurPath.length);
+        System.arraycopy(spurPath, 0, total, i, spurPath.length);
+        return new Candidate(total, rootCost + spurCost, 0);
+    }
+
+    private void banArcs(BitSet bannedArcs, int u, int v) {
+        for (int a = graph.firstArc(u); a < graph.endArc(u); a++) {
+            if (graph.arcTarget(a) == v) {
+                bannedArcs.set(a);
+            }
+        }
+    }
+
+    private double pathCost(int[] nodes) {
+        double cost = 0.0;
+        for (int i = 0; i < nodes.length - 1; i++) {
+            cost += graph.weightBetween(nodes[i], nodes[i + 1]);
+        }
+        return cost;
+    }
+
+    private static boolean samePrefix(int[] a, int[] b, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] extractPath(SearchWorkspace workspace, int t) {
+        int[] buffer = workspace.pathBuffer();
+        int length = 0;
+        for (int at = t; at != -1; at = workspace.predecessor(at)) {
+            buffer[length++] = at;
+        }
+        int[] path = new int[length];
+        for (int i = 0; i < length; i++) {
+            path[i] = buffer[length - 1 - i];
+        }
+        return path;
+    }
+
+    private List<PathResult> toResults(List<Candidate> paths) {
+        List<PathResult> results = new ArrayList<>(paths.size());
+        for (Candidate candidate : paths) {
+            List<String> names = new ArrayList<>(candidate.nodes.length);
+            for (int v : candidate.nodes) {
+                names.add(graph.nameOf(v));
+            }
+            results.add(new PathResult(candidate.distance, names));
+        }
+        return results;
+    }
+
+    private static final class Candidate {
+        final int[] nodes;
+        final double distance;
+        long sequence;
+
+        Candidate(int[] nodes, double distance, long sequence) {
+            this.nodes = nodes;
+            this.distance = distance;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Candidate && Arrays.equals(nodes, ((Candidate) o).nodes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(nodes);
+        }
+    }
+}
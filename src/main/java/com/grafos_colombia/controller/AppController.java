@@ -1,19 +1,32 @@
 package com.grafos_colombia.controller;
 
+import com.grafos_colombia.algorithm.AllPairsMatrix;
+import com.grafos_colombia.algorithm.AllPairsMatrixFile;
+import com.grafos_colombia.algorithm.AlternativeRoutes;
 import com.grafos_colombia.algorithm.Bfs;
+import com.grafos_colombia.algorithm.ContractionHierarchy;
 import com.grafos_colombia.algorithm.Dijkstra;
 import com.grafos_colombia.algorithm.Eccentricity;
 import com.grafos_colombia.algorithm.GraphMetrics;
+import com.grafos_colombia.algorithm.Isochrone;
 import com.grafos_colombia.algorithm.PathResult;
+import com.grafos_colombia.algorithm.RouteCache;
+import com.grafos_colombia.algorithm.ShortestPathTree;
+import com.grafos_colombia.algorithm.ShortestPathTreeCache;
 import com.grafos_colombia.database.DatabaseConnection;
 import com.grafos_colombia.database.GraphDataLoader;
+import com.grafos_colombia.graph.CsrGraph;
 import com.grafos_colombia.graph.Edge;
 import com.grafos_colombia.graph.Graph;
 import com.grafos_colombia.graph.GraphConverter;
+import com.grafos_colombia.graph.GraphNode;
 import com.grafos_colombia.graph.GraphView;
 import com.grafos_colombia.graph.Node;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -32,6 +45,8 @@ import java.io.IOException;
 
 public class AppController implements Initializable {
 
+    private static final String HIERARCHY_FILE = "grafos_colombia.ch";
+    private static final String DISTANCES_FILE = "grafos_colombia.apsp";
 
     @FXML private TextField originFilterField;
     @FXML private ComboBox<String> originComboBox;
@@ -43,9 +58,12 @@ public class AppController implements Initializable {
     @FXML private RadioButton simpleCycleRadio;
     @FXML private RadioButton eccentricityRadio;
     @FXML private RadioButton graphMetricsRadio;
+    @FXML private RadioButton isochroneRadio;
 
     @FXML private VBox originContainer;
     @FXML private VBox destinationContainer;
+    @FXML private VBox radiusContainer;
+    @FXML private TextField radiusField;
 
     @FXML private Button forceLayoutButton;
     @FXML private Button calculateButton;
@@ -67,8 +85,10 @@ public class AppController implements Initializable {
 
   
     private GraphView graphView;
-    private Graph currentGraph;
+    private volatile Graph currentGraph;
     private Map<String, List<Node>> adjList;
+    private volatile ContractionHierarchy hierarchy;
+    private CompletableFuture<Void> reconstruccion;
     private DatabaseConnection db;
     private GraphDataLoader loader;
 
@@ -126,7 +146,7 @@ public class AppController implements Initializable {
             }
         }
         
-        Graph graph = loader.cargarGrafoCompleto();
+        Graph graph = loader.cargarGrafoCompleto(false);
         if (graph != null) {
             setupGraph(graph);
             pathResultArea.setText("Grafo cargado correctamente desde BD.");
@@ -139,6 +159,26 @@ public class AppController implements Initializable {
         clearResults();
         currentGraph = graph;
         adjList = graph.getAdjList();
+        CsrGraph csrGraph = graph.getCsrGraph();
+        hierarchy = null;
+        cargarJerarquia(graph, csrGraph);
+        // Con la matriz ya en disco las métricas salen de ella; si hay que reconstruirla, o si falla, se calculan
+        // sin ella. Nada de esto corre en el hilo de JavaFX.
+        CompletableFuture<AllPairsMatrix> matriz = AllPairsMatrixFile.loadOrRebuild(csrGraph, Paths.get(DISTANCES_FILE));
+        boolean matrizEnDisco = matriz.isDone();
+        if (!matrizEnDisco) {
+            graph.precalcularMetricas();
+        }
+        matriz.whenCompleteAsync((m, e) -> {
+            if (e != null) {
+                System.err.println("No se pudo cargar la matriz de distancias: " + e.getMessage());
+            } else {
+                graph.setMatrizTodosLosPares(m);
+            }
+            if (matrizEnDisco) {
+                graph.precalcularMetricas();
+            }
+        });
 
         initializeGraphView();
         populateComboBoxes();
@@ -152,6 +192,14 @@ public class AppController implements Initializable {
         List<Edge> edges = extractEdges();
 
         var data = GraphConverter.convertNodeAdjList(adjList, edges);
+        CsrGraph csrGraph = currentGraph.getCsrGraph();
+        for (GraphNode node : data.getNodes()) {
+            int id = csrGraph.idOf(node.getId());
+            if (id >= 0 && csrGraph.hasCoordinates(id)) {
+                node.setLatitude(csrGraph.latitude(id));
+                node.setLongitude(csrGraph.longitude(id));
+            }
+        }
         graphView.initializeGraph(data.getNodes(), data.getEdges());
         graphView.setLayoutType(GraphView.LayoutType.FORCE_DIRECTED);
         graphView.render();
@@ -203,6 +251,8 @@ public class AppController implements Initializable {
             handleEccentricity();
         } else if (selected == graphMetricsRadio) {
             handleGraphMetrics();
+        } else if (selected == isochroneRadio) {
+            handleIsochrone();
         } else {
             handleShortestPath();
         }
@@ -217,14 +267,19 @@ public class AppController implements Initializable {
             return;
         }
 
-        PathResult primaryResult = Dijkstra.dijkstra(o, d, adjList);
+        // La versión se lee antes que el grafo: una edición entre ambas lecturas guarda rutas nuevas bajo la
+        // versión vieja (que ya nadie consulta), nunca rutas viejas bajo la nueva.
+        long version = currentGraph.getVersion();
+        CsrGraph csrGraph = currentGraph.getCsrGraph();
+        List<PathResult> routes = RouteCache.getInstance().getOrCompute(o, d, 2, version,
+                () -> computeRoutes(csrGraph, o, d));
+        PathResult primaryResult = routes.isEmpty() ? null : routes.get(0);
         if (primaryResult == null || primaryResult.path == null || primaryResult.path.isEmpty()) {
             pathResultArea.setText("No hay ruta entre " + o + " y " + d);
             return;
         }
 
-
-        PathResult alternativeResult = Dijkstra.findAlternativePath(o, d, adjList, primaryResult.path);
+        PathResult alternativeResult = routes.size() > 1 ? routes.get(1) : null;
 
         currentPrimaryPath = primaryResult;
         currentAlternativePath = alternativeResult;
@@ -248,6 +303,71 @@ public class AppController implements Initializable {
         updateRouteHighlights();
     }
     
+    private List<PathResult> computeRoutes(CsrGraph csrGraph, String o, String d) {
+        List<PathResult> routes = new ArrayList<>();
+        ShortestPathTreeCache trees = ShortestPathTreeCache.of(csrGraph);
+        ShortestPathTree originTree = trees.getIfPresent(o);
+        PathResult primaryResult = originTree != null ? originTree.resultTo(d) : shortestPath(csrGraph, o, d);
+        if (primaryResult == null || primaryResult.path == null || primaryResult.path.isEmpty()) {
+            return routes;
+        }
+        routes.add(primaryResult);
+
+        List<PathResult> dissimilar = new AlternativeRoutes(csrGraph, trees,
+                AlternativeRoutes.DEFAULT_MAX_OVERLAP, AlternativeRoutes.DEFAULT_MAX_STRETCH)
+                .alternativesTo(primaryResult, 1);
+        PathResult alternativeResult = !dissimilar.isEmpty()
+                ? dissimilar.get(0)
+                : Dijkstra.findAlternativePathParallel(o, d, csrGraph, primaryResult.path);
+        if (alternativeResult != null) {
+            routes.add(alternativeResult);
+        }
+        return routes;
+    }
+
+    // La jerarquía solo vale para el grafo con que se construyó; mientras se carga o se rehace tras una edición,
+    // las rutas van con A* (si hay coordenadas) o Dijkstra bidireccional.
+    private PathResult shortestPath(CsrGraph csrGraph, String o, String d) {
+        ContractionHierarchy ch = hierarchy;
+        if (ch != null && ch.getGraph() == csrGraph) {
+            return ch.shortestPath(o, d);
+        }
+        reconstruirIndices();
+        return csrGraph.hasAllCoordinates() ? Dijkstra.aStar(o, d, csrGraph) : Dijkstra.bidirectional(o, d, csrGraph);
+    }
+
+    // Una reconstrucción a la vez; si el grafo cambió mientras tanto, la siguiente consulta lanza otra.
+    private synchronized void reconstruirIndices() {
+        if (reconstruccion != null && !reconstruccion.isDone()) {
+            return;
+        }
+        Graph graph = currentGraph;
+        CsrGraph csrGraph = graph.getCsrGraph();
+        cargarJerarquia(graph, csrGraph);
+        AllPairsMatrixFile.loadOrRebuild(csrGraph, Paths.get(DISTANCES_FILE))
+                .whenComplete((m, e) -> {
+                    if (e != null) {
+                        System.err.println("No se pudo reconstruir la matriz de distancias: " + e.getMessage());
+                    } else {
+                        graph.setMatrizTodosLosPares(m);
+                    }
+                });
+    }
+
+    // Fuera del hilo de JavaFX; la jerarquía solo se publica si el grafo sigue siendo el mismo.
+    private synchronized void cargarJerarquia(Graph graph, CsrGraph csrGraph) {
+        reconstruccion = ContractionHierarchy.loadOrBuildAsync(csrGraph, Paths.get(HIERARCHY_FILE))
+                .thenAccept(ch -> {
+                    if (currentGraph == graph && graph.getCsrGraph() == csrGraph) {
+                        hierarchy = ch;
+                    }
+                })
+                .exceptionally(e -> {
+                    System.err.println("No se pudo construir la jerarquía: " + e.getMessage());
+                    return null;
+                });
+    }
+
     @FXML
     private void toggleRouteView() {
         if (currentPrimaryPath == null) {
@@ -290,17 +410,12 @@ public class AppController implements Initializable {
             return;
         }
 
-        List<String> cycle = Bfs.findShortestCycle(adjList, start);
+        CsrGraph csrGraph = currentGraph.getCsrGraph();
+        List<String> cycle = Bfs.findShortestCycle(csrGraph, start);
         if (cycle != null && !cycle.isEmpty()) {
             double dist = 0;
             for (int i = 0; i < cycle.size() - 1; i++) {
-                String u = cycle.get(i), v = cycle.get(i + 1);
-                for (Node n : adjList.get(u)) {
-                    if (n.getValue().equals(v)) {
-                        dist += n.getWeight();
-                        break;
-                    }
-                }
+                dist += csrGraph.weightBetween(csrGraph.idOf(cycle.get(i)), csrGraph.idOf(cycle.get(i + 1)));
             }
             pathResultArea.setText("Ciclo: " + String.join(" → ", cycle));
             distanceLabel.setText(String.format("%.1f km", dist));
@@ -318,7 +433,7 @@ public class AppController implements Initializable {
             return;
         }
 
-        var res = Eccentricity.calculate(start, adjList);
+        var res = Eccentricity.calculate(start, currentGraph.getCsrGraph());
         if (res != null && res.farthestNode != null) {
             distanceLabel.setText(String.format("%.1f km", res.eccentricity));
             statsLabel.setText("Nodos: " + res.path.size());
@@ -329,6 +444,47 @@ public class AppController implements Initializable {
         }
     }
 
+    private void handleIsochrone() {
+        String start = originComboBox.getValue();
+        if (start == null) {
+            pathResultArea.setText("Selecciona un nodo.");
+            return;
+        }
+
+        double radio;
+        try {
+            radio = Double.parseDouble(radiusField.getText().trim().replace(',', '.'));
+        } catch (NumberFormatException e) {
+            pathResultArea.setText("Radio inválido: escribe la distancia en km.");
+            return;
+        }
+        if (radio < 0) {
+            pathResultArea.setText("El radio debe ser positivo.");
+            return;
+        }
+
+        Isochrone zona = Isochrone.compute(currentGraph.getCsrGraph(), start, radio);
+        if (zona == null) {
+            pathResultArea.setText("Nodo no encontrado: " + start);
+            return;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Lugares a ").append(String.format("%.1f", radio)).append(" km o menos de ").append(start).append(":\n");
+        for (Map.Entry<String, Double> entry : zona.getDistances().entrySet()) {
+            sb.append("  • ").append(entry.getKey()).append(" (").append(String.format("%.1f", entry.getValue())).append(" km)\n");
+        }
+        pathResultArea.setText(sb.toString());
+        distanceLabel.setText(String.format("%.1f km", radio));
+        statsLabel.setText("Nodos: " + zona.getDistances().size() + " | Frontera: " + zona.getBoundaryEdges().size());
+
+        List<String[]> frontera = new ArrayList<>();
+        for (Isochrone.BoundaryEdge edge : zona.getBoundaryEdges()) {
+            frontera.add(new String[] {edge.from, edge.to});
+        }
+        graphView.highlightIsochrone(start, zona.getReachable(), frontera);
+    }
+
     private void handleGraphMetrics() {
         if (currentGraph == null || adjList == null || adjList.isEmpty()) {
             showAlert("Error", "El grafo no está cargado", 
@@ -337,8 +493,20 @@ public class AppController implements Initializable {
             return;
         }
 
-        GraphMetrics.GraphMetricsResult metricas = currentGraph.getMetricas();
-        
+        // Si el cálculo de fondo sigue en curso se espera fuera del hilo de JavaFX.
+        currentGraph.precalcularMetricas()
+                .whenComplete((metricas, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        Throwable causa = error.getCause() != null ? error.getCause() : error;
+                        showAlert("Error", "No se pudieron calcular las métricas", causa.getMessage(),
+                                Alert.AlertType.ERROR);
+                    } else {
+                        mostrarMetricas(metricas);
+                    }
+                }));
+    }
+
+    private void mostrarMetricas(GraphMetrics.GraphMetricsResult metricas) {
         if (metricas == null) {
             showAlert("Error", "No se pudieron calcular las métricas", 
                     "El grafo podría no ser conexo. Asegúrate de que todos los nodos estén conectados.", 
@@ -434,6 +602,8 @@ public class AppController implements Initializable {
         destinationContainer.setManaged(showDest);
         originContainer.setVisible(showOrigin);
         originContainer.setManaged(showOrigin);
+        radiusContainer.setVisible(sel == isochroneRadio);
+        radiusContainer.setManaged(sel == isochroneRadio);
         
         if (sel == graphMetricsRadio) {
             calculateButton.setText("Calcular Métricas");
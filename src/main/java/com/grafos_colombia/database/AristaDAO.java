@@ -115,6 +115,52 @@ public class AristaDAO {
         }
     }
 
+    // Corrige la distancia de la arista en cualquiera de los dos sentidos.
+    public boolean actualizarDistancia(String nodoOrigen, String nodoDestino, double distancia) {
+        String sql = "UPDATE arista SET distancia = ? WHERE id IN (" +
+                     "SELECT a.id FROM arista a " +
+                     "JOIN nodo n1 ON a.origen_id = n1.id " +
+                     "JOIN nodo n2 ON a.destino_id = n2.id " +
+                     "WHERE (n1.nombre = ? AND n2.nombre = ?) OR (n1.nombre = ? AND n2.nombre = ?))";
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setDouble(1, distancia);
+            stmt.setString(2, nodoOrigen);
+            stmt.setString(3, nodoDestino);
+            stmt.setString(4, nodoDestino);
+            stmt.setString(5, nodoOrigen);
+            return stmt.executeUpdate() > 0;
+
+        } catch (SQLException e) {
+            System.err.println("Error al actualizar arista: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean eliminarArista(String nodoOrigen, String nodoDestino) {
+        String sql = "DELETE FROM arista WHERE id IN (" +
+                     "SELECT a.id FROM arista a " +
+                     "JOIN nodo n1 ON a.origen_id = n1.id " +
+                     "JOIN nodo n2 ON a.destino_id = n2.id " +
+                     "WHERE (n1.nombre = ? AND n2.nombre = ?) OR (n1.nombre = ? AND n2.nombre = ?))";
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, nodoOrigen);
+            stmt.setString(2, nodoDestino);
+            stmt.setString(3, nodoDestino);
+            stmt.setString(4, nodoOrigen);
+            return stmt.executeUpdate() > 0;
+
+        } catch (SQLException e) {
+            System.err.println("Error al eliminar arista: " + e.getMessage());
+            return false;
+        }
+    }
+
     public boolean existeArista(String nodoOrigen, String nodoDestino) {
         String sql = "SELECT COUNT(*) FROM arista a " +
                      "JOIN nodo n1 ON a.origen_id = n1.id " +
@@ -1,6 +1,8 @@
 package com.grafos_colombia.database;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 
 public class DatabaseMigration {
@@ -18,10 +20,16 @@ public class DatabaseMigration {
             // Crear tabla nodo
             String createNodo = "CREATE TABLE IF NOT EXISTS nodo (" +
                     "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
-                    "nombre TEXT NOT NULL UNIQUE" +
+                    "nombre TEXT NOT NULL UNIQUE, " +
+                    "latitud REAL, " +
+                    "longitud REAL" +
                     ")";
             stmt.executeUpdate(createNodo);
 
+            // Bases creadas antes de guardar coordenadas
+            agregarColumnaSiNoExiste(conn, "nodo", "latitud", "REAL");
+            agregarColumnaSiNoExiste(conn, "nodo", "longitud", "REAL");
+
             // Crear tabla arista
             String createArista = "CREATE TABLE IF NOT EXISTS arista (" +
                     "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
@@ -40,4 +48,19 @@ public class DatabaseMigration {
             System.err.println("❌ Error creando tablas: " + e.getMessage());
         }
     }
-}
+
+    private static void agregarColumnaSiNoExiste(Connection conn, String tabla, String columna, String tipo)
+            throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + tabla + ")")) {
+            while (rs.next()) {
+                if (columna.equalsIgnoreCase(rs.getString("name"))) {
+                    return;
+                }
+            }
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("ALTER TABLE " + tabla + " ADD COLUMN " + columna + " " + tipo);
+        }
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.grafos_colombia.database;
 
+import com.grafos_colombia.algorithm.RouteCache;
 import com.grafos_colombia.graph.Edge;
 import com.grafos_colombia.graph.Graph;
 
@@ -53,6 +54,7 @@ public class GraphDataLoader {
             }
             
             System.out.println("CSV cargado: " + count + " aristas");
+            cargarCoordenadasDesdeCSV();
             return true;
             
         } catch (Exception e) {
@@ -61,8 +63,49 @@ public class GraphDataLoader {
         }
     }
 
+    // Archivo opcional nombre,latitud,longitud (no viene con el proyecto); sin él los nodos quedan sin
+    // coordenadas y A* usa landmarks ALT en vez de la distancia geográfica. Las líneas inválidas se omiten.
+    public int cargarCoordenadasDesdeCSV() {
+        InputStream is = getClass().getResourceAsStream("/csv/Coordenadas.csv");
+        if (is == null) {
+            return 0;
+        }
+
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is))) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) continue;
+
+                String[] parts = line.split(",");
+                if (parts.length < 3) {
+                    System.err.println("Línea de coordenadas inválida: " + line);
+                    continue;
+                }
+                try {
+                    if (nodoDAO.actualizarCoordenadas(parts[0].trim(),
+                            Double.parseDouble(parts[1].trim()), Double.parseDouble(parts[2].trim()))) {
+                        count++;
+                    }
+                } catch (NumberFormatException e) {
+                    System.err.println("Línea de coordenadas inválida: " + line);
+                }
+            }
+            System.out.println("Coordenadas cargadas: " + count + " nodos");
+        } catch (Exception e) {
+            System.err.println("Error cargando coordenadas: " + e.getMessage());
+        }
+        return count;
+    }
+
    
     public Graph cargarGrafoCompleto() {
+        return cargarGrafoCompleto(true);
+    }
+
+    // Con precalcularMetricas las métricas del grafo se calculan en segundo plano al terminar la carga.
+    public Graph cargarGrafoCompleto(boolean precalcularMetricas) {
         if (!db.isConnected() && !db.connect()) {
             System.err.println("No se pudo conectar a la base de datos");
             return null;
@@ -74,10 +117,38 @@ public class GraphDataLoader {
             return null;
         }
 
-        Graph graph = new Graph(aristas);
+        RouteCache.getInstance().invalidate();
+        Graph graph = new Graph(aristas, nodoDAO.obtenerCoordenadas());
+        if (precalcularMetricas) {
+            graph.precalcularMetricas();
+        }
         return graph;
     }
 
+    // Inserta o corrige la arista en la BD y la aplica al grafo cargado, que mantiene sus métricas.
+    public boolean guardarArista(Graph graph, String origen, String destino, double distancia) {
+        nodoDAO.guardarSiNoExiste(origen);
+        nodoDAO.guardarSiNoExiste(destino);
+        boolean guardada = aristaDAO.existeArista(origen, destino)
+                ? aristaDAO.actualizarDistancia(origen, destino, distancia)
+                : aristaDAO.insertarArista(origen, destino, distancia);
+        if (!guardada) {
+            return false;
+        }
+        RouteCache.getInstance().invalidate();
+        graph.actualizarArista(origen, destino, distancia);
+        return true;
+    }
+
+    public boolean eliminarArista(Graph graph, String origen, String destino) {
+        if (!aristaDAO.eliminarArista(origen, destino)) {
+            return false;
+        }
+        RouteCache.getInstance().invalidate();
+        graph.eliminarArista(origen, destino);
+        return true;
+    }
+
     public void mostrarEstadisticas() {
         System.out.println("\nESTADÍSTICAS:");
         List<String> nodos = nodoDAO.obtenerTodosLosNombres();
@@ -2,7 +2,9 @@ package com.grafos_colombia.database;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 public class NodoDAO {
@@ -66,6 +68,38 @@ public class NodoDAO {
     }
 
 
+    public Map<String, double[]> obtenerCoordenadas() {
+        Map<String, double[]> coordenadas = new HashMap<>();
+        String sql = "SELECT nombre, latitud, longitud FROM nodo WHERE latitud IS NOT NULL AND longitud IS NOT NULL";
+        try (Connection c = db.getConnection(); 
+             Statement s = c.createStatement(); 
+             ResultSet rs = s.executeQuery(sql)) {
+            while (rs.next()) {
+                coordenadas.put(rs.getString("nombre"),
+                        new double[]{rs.getDouble("latitud"), rs.getDouble("longitud")});
+            }
+        } catch (SQLException e) {
+            System.err.println("Error leyendo coordenadas: " + e.getMessage());
+        }
+        return coordenadas;
+    }
+
+
+    public boolean actualizarCoordenadas(String nombre, double latitud, double longitud) {
+        String sql = "UPDATE nodo SET latitud = ?, longitud = ? WHERE nombre = ?";
+        try (Connection c = db.getConnection(); 
+             PreparedStatement s = c.prepareStatement(sql)) {
+            s.setDouble(1, latitud);
+            s.setDouble(2, longitud);
+            s.setString(3, nombre.trim());
+            return s.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Error actualizando coordenadas de '" + nombre + "': " + e.getMessage());
+            return false;
+        }
+    }
+
+
     public void guardarSiNoExiste(String nombre) {
         if (!existeNodo(nombre)) {
             insertarNodo(nombre);
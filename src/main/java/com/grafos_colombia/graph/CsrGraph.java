@@ -0,0 +1,308 @@
+package com.grafos_colombia.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+// Adyacencia inmutable en formato CSR con ids enteros: los arcos de v son targets[offsets[v] .. offsets[v + 1]).
+public final class CsrGraph {
+
+    private final String[] names;
+    private final Map<String, Integer> ids;
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    private CsrGraph(String[] names, Map<String, Integer> ids, int[] offsets, int[] targets, double[] weights) {
+        this(names, ids, offsets, targets, weights, null, null);
+    }
+
+    private CsrGraph(String[] names, Map<String, Integer> ids, int[] offsets, int[] targets, double[] weights,
+                     double[] latitudes, double[] longitudes) {
+        this.names = names;
+        this.ids = ids;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+    }
+
+    public static CsrGraph fromEdges(List<Edge> edges) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        int[] src = new int[edges.size()];
+        int[] dest = new int[edges.size()];
+
+        for (int i = 0; i < edges.size(); i++) {
+            Edge edge = edges.get(i);
+            src[i] = idFor(edge.getSrc(), ids, names);
+            dest[i] = idFor(edge.getDest(), ids, names);
+        }
+
+        int n = names.size();
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < edges.size(); i++) {
+            offsets[src[i] + 1]++;
+            offsets[dest[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] targets = new int[offsets[n]];
+        double[] weights = new double[offsets[n]];
+        int[] cursor = new int[n];
+        System.arraycopy(offsets, 0, cursor, 0, n);
+
+        for (int i = 0; i < edges.size(); i++) {
+            double w = edges.get(i).getWeight();
+            int a = cursor[src[i]]++;
+            targets[a] = dest[i];
+            weights[a] = w;
+            int b = cursor[dest[i]]++;
+            targets[b] = src[i];
+            weights[b] = w;
+        }
+
+        return new CsrGraph(names.toArray(new String[0]), ids, offsets, targets, weights);
+    }
+
+    public static CsrGraph fromAdjList(Map<String, List<Node>> adjList) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> names = new ArrayList<>();
+
+        for (String name : adjList.keySet()) {
+            idFor(name, ids, names);
+        }
+        for (List<Node> neighbors : adjList.values()) {
+            for (Node neighbor : neighbors) {
+                idFor(neighbor.getValue(), ids, names);
+            }
+        }
+
+        int n = names.size();
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            List<Node> neighbors = adjList.get(names.get(v));
+            offsets[v + 1] = offsets[v] + (neighbors != null ? neighbors.size() : 0);
+        }
+
+        int[] targets = new int[offsets[n]];
+        double[] weights = new double[offsets[n]];
+        for (int v = 0; v < n; v++) {
+            List<Node> neighbors = adjList.get(names.get(v));
+            if (neighbors == null) continue;
+            int a = offsets[v];
+            for (Node neighbor : neighbors) {
+                targets[a] = ids.get(neighbor.getValue());
+                weights[a] = neighbor.getWeight();
+                a++;
+            }
+        }
+
+        return new CsrGraph(names.toArray(new String[0]), ids, offsets, targets, weights);
+    }
+
+    // Misma topología con {latitud, longitud} por nombre; los nodos que no estén quedan en NaN.
+    public CsrGraph withCoordinates(Map<String, double[]> coordinates) {
+        double[] lat = new double[names.length];
+        double[] lon = new double[names.length];
+        for (int v = 0; v < names.length; v++) {
+            double[] c = coordinates != null ? coordinates.get(names[v]) : null;
+            lat[v] = c != null ? c[0] : Double.NaN;
+            lon[v] = c != null ? c[1] : Double.NaN;
+        }
+        return new CsrGraph(names, ids, offsets, targets, weights, lat, lon);
+    }
+
+    // Copia donde la vía a-b pesa w (reemplaza arcos paralelos); los ids se mantienen y un nodo nuevo
+    // recibe el siguiente id, sin coordenadas.
+    public CsrGraph withEdge(String a, String b, double weight) {
+        return replaceEdge(a, b, weight, true);
+    }
+
+    // Copia sin la vía a-b; ambos nodos conservan su id aunque queden aislados.
+    public CsrGraph withoutEdge(String a, String b) {
+        return replaceEdge(a, b, 0.0, false);
+    }
+
+    private CsrGraph replaceEdge(String a, String b, double weight, boolean present) {
+        if (a.equals(b)) {
+            throw new IllegalArgumentException("Una arista debe unir dos nodos distintos: " + a);
+        }
+        String[] newNames = names;
+        Map<String, Integer> newIds = ids;
+        if (present && (!ids.containsKey(a) || !ids.containsKey(b))) {
+            List<String> nameList = new ArrayList<>(Arrays.asList(names));
+            newIds = new HashMap<>(ids);
+            idFor(a, newIds, nameList);
+            idFor(b, newIds, nameList);
+            newNames = nameList.toArray(new String[0]);
+        }
+        int n = newNames.length;
+        int ua = newIds.getOrDefault(a, -1);
+        int ub = newIds.getOrDefault(b, -1);
+
+        int[] newOffsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            int count = 0;
+            if (v < names.length) {
+                for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                    if (!joins(v, targets[arc], ua, ub)) {
+                        count++;
+                    }
+                }
+            }
+            if (present && (v == ua || v == ub)) {
+                count++;
+            }
+            newOffsets[v + 1] = newOffsets[v] + count;
+        }
+
+        int[] newTargets = new int[newOffsets[n]];
+        double[] newWeights = new double[newOffsets[n]];
+        for (int v = 0; v < n; v++) {
+            int at = newOffsets[v];
+            if (v < names.length) {
+                for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                    if (!joins(v, targets[arc], ua, ub)) {
+                        newTargets[at] = targets[arc];
+                        newWeights[at++] = weights[arc];
+                    }
+                }
+            }
+            if (present && (v == ua || v == ub)) {
+                newTargets[at] = v == ua ? ub : ua;
+                newWeights[at] = weight;
+            }
+        }
+
+        double[] lat = latitudes;
+        double[] lon = longitudes;
+        if (latitudes != null && n > names.length) {
+            lat = Arrays.copyOf(latitudes, n);
+            lon = Arrays.copyOf(longitudes, n);
+            Arrays.fill(lat, names.length, n, Double.NaN);
+            Arrays.fill(lon, names.length, n, Double.NaN);
+        }
+        return new CsrGraph(newNames, newIds, newOffsets, newTargets, newWeights, lat, lon);
+    }
+
+    private static boolean joins(int v, int w, int a, int b) {
+        return (v == a && w == b) || (v == b && w == a);
+    }
+
+    private static int idFor(String name, Map<String, Integer> ids, List<String> names) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = names.size();
+            ids.put(name, id);
+            names.add(name);
+        }
+        return id;
+    }
+
+    public int nodeCount() {
+        return names.length;
+    }
+
+    public int arcCount() {
+        return targets.length;
+    }
+
+    public int idOf(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : -1;
+    }
+
+    public boolean contains(String name) {
+        return ids.containsKey(name);
+    }
+
+    public String nameOf(int id) {
+        return names[id];
+    }
+
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    public int firstArc(int v) {
+        return offsets[v];
+    }
+
+    public int endArc(int v) {
+        return offsets[v + 1];
+    }
+
+    public int arcTarget(int arc) {
+        return targets[arc];
+    }
+
+    public double arcWeight(int arc) {
+        return weights[arc];
+    }
+
+    // Peso del arco u -> v más liviano, o infinito si no son vecinos.
+    public double weightBetween(int u, int v) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int a = offsets[u]; a < offsets[u + 1]; a++) {
+            if (targets[a] == v && weights[a] < best) {
+                best = weights[a];
+            }
+        }
+        return best;
+    }
+
+    public boolean hasCoordinates(int v) {
+        return latitudes != null && !Double.isNaN(latitudes[v]) && !Double.isNaN(longitudes[v]);
+    }
+
+    public boolean hasAllCoordinates() {
+        if (latitudes == null) {
+            return false;
+        }
+        for (int v = 0; v < names.length; v++) {
+            if (!hasCoordinates(v)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public double latitude(int v) {
+        return latitudes != null ? latitudes[v] : Double.NaN;
+    }
+
+    public double longitude(int v) {
+        return longitudes != null ? longitudes[v] : Double.NaN;
+    }
+
+    // CRC32 de nombres y arcos; identifica el dataset de los preprocesos guardados.
+    public long checksum() {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        for (int v = 0; v < names.length; v++) {
+            crc.update(names[v].getBytes(StandardCharsets.UTF_8));
+            for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                buffer.clear();
+                buffer.putInt(v).putInt(targets[a]).putDouble(weights[a]);
+                crc.update(buffer.array(), 0, 16);
+            }
+        }
+        return crc.getValue();
+    }
+
+    public List<String> names() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+}
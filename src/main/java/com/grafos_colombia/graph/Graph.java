@@ -1,47 +1,201 @@
 package com.grafos_colombia.graph;
 
+import com.grafos_colombia.algorithm.AllPairsMatrix;
+import com.grafos_colombia.algorithm.DistanceMatrix;
 import com.grafos_colombia.algorithm.GraphMetrics;
+import com.grafos_colombia.algorithm.IncrementalEccentricities;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Graph {
 
+    private static final AtomicLong VERSIONES = new AtomicLong();
+
     private final Map<String, List<Node>> adjList = new HashMap<>();
+    private volatile CsrGraph csrGraph;
+    private volatile long version = VERSIONES.incrementAndGet();
+    private volatile AllPairsMatrix matrizTodosLosPares;
+    // null mientras nadie las haya pedido; el futuro lo completa el primer hilo que las pide, sin tomar el
+    // monitor del grafo, y los demás esperan ese mismo resultado.
+    private final AtomicReference<CompletableFuture<GraphMetrics.GraphMetricsResult>> metricas =
+            new AtomicReference<>();
+    private volatile IncrementalEccentricities excentricidadesIncrementales;
 
     public Graph(List<Edge> edges) {
+        this(edges, null);
+    }
+
+    public Graph(List<Edge> edges, Map<String, double[]> coordenadas) {
 
         for (Edge edge : edges) {
             adjList.computeIfAbsent(edge.getSrc(), k -> new ArrayList<>()).add(new Node(edge.getDest(), edge.getWeight()));
             adjList.computeIfAbsent(edge.getDest(), k -> new ArrayList<>()).add(new Node(edge.getSrc(), edge.getWeight()));
         }
+        CsrGraph csr = CsrGraph.fromEdges(edges);
+        csrGraph = coordenadas != null && !coordenadas.isEmpty() ? csr.withCoordinates(coordenadas) : csr;
     }
 
     public static void printGraph(Graph graph) {
         System.out.println(graph.adjList.entrySet());
     }
 
-    public Map<String, List<Node>> getAdjList() {
-        return adjList;
+    // Copia de solo lectura: las aristas se cambian con actualizarArista/eliminarArista.
+    public synchronized Map<String, List<Node>> getAdjList() {
+        Map<String, List<Node>> copia = new HashMap<>();
+        for (Map.Entry<String, List<Node>> entrada : adjList.entrySet()) {
+            copia.put(entrada.getKey(), Collections.unmodifiableList(new ArrayList<>(entrada.getValue())));
+        }
+        return Collections.unmodifiableMap(copia);
+    }
+
+    // Inserta la arista o corrige su distancia. Cambia la versión del grafo (las rutas en caché dejan de valer).
+    public synchronized void actualizarArista(String origen, String destino, double distancia) {
+        if (!(distancia >= 0.0)) {
+            throw new IllegalArgumentException("Distancia inválida: " + distancia);
+        }
+        // Primero el CsrGraph (valida los nodos); si falla, la lista de adyacencia queda intacta.
+        CsrGraph nuevo = csrGraph.withEdge(origen, destino, distancia);
+        quitarDeListaAdyacencia(origen, destino);
+        adjList.computeIfAbsent(origen, k -> new ArrayList<>()).add(new Node(destino, distancia));
+        adjList.computeIfAbsent(destino, k -> new ArrayList<>()).add(new Node(origen, distancia));
+        aplicarCambio(nuevo, origen, destino);
+    }
+
+    public synchronized boolean eliminarArista(String origen, String destino) {
+        int u = csrGraph.idOf(origen);
+        int v = csrGraph.idOf(destino);
+        if (u < 0 || v < 0 || csrGraph.weightBetween(u, v) == Double.POSITIVE_INFINITY) {
+            return false;
+        }
+        CsrGraph nuevo = csrGraph.withoutEdge(origen, destino);
+        quitarDeListaAdyacencia(origen, destino);
+        aplicarCambio(nuevo, origen, destino);
+        return true;
+    }
+
+    private void quitarDeListaAdyacencia(String origen, String destino) {
+        List<Node> vecinosOrigen = adjList.get(origen);
+        if (vecinosOrigen != null) {
+            vecinosOrigen.removeIf(n -> n.getValue().equals(destino));
+        }
+        List<Node> vecinosDestino = adjList.get(destino);
+        if (vecinosDestino != null) {
+            vecinosDestino.removeIf(n -> n.getValue().equals(origen));
+        }
+    }
+
+    // En modo incremental solo se repiten las búsquedas cuyos árboles dependen de la arista modificada.
+    private void aplicarCambio(CsrGraph nuevo, String origen, String destino) {
+        csrGraph = nuevo;
+        version = VERSIONES.incrementAndGet();
+        matrizTodosLosPares = null;
+        if (excentricidadesIncrementales != null) {
+            excentricidadesIncrementales.updateEdge(nuevo, origen, destino);
+            metricas.set(CompletableFuture.completedFuture(GraphMetrics.calcularMetricas(excentricidadesIncrementales)));
+        } else {
+            metricas.set(null);
+        }
+    }
+
+    // Conserva un árbol de caminos mínimos por nodo para mantener las métricas al editar aristas.
+    public synchronized void habilitarMetricasIncrementales() {
+        if (excentricidadesIncrementales == null) {
+            excentricidadesIncrementales = new IncrementalEccentricities(csrGraph);
+            metricas.set(CompletableFuture.completedFuture(GraphMetrics.calcularMetricas(excentricidadesIncrementales)));
+        }
+    }
+
+    public CsrGraph getCsrGraph() {
+        return csrGraph;
+    }
+
+    public long getVersion() {
+        return version;
     }
 
   
     public double getRadio() {
-        return GraphMetrics.calcularRadio(adjList);
+        GraphMetrics.GraphMetricsResult resultado = getMetricas();
+        return resultado != null ? resultado.radio : Double.POSITIVE_INFINITY;
     }
 
    
     public double getDiametro() {
-        return GraphMetrics.calcularDiametro(adjList);
+        GraphMetrics.GraphMetricsResult resultado = getMetricas();
+        return resultado != null ? resultado.diametro : 0.0;
     }
 
   
     public List<String> getCentro() {
-        return GraphMetrics.calcularCentro(adjList);
+        GraphMetrics.GraphMetricsResult resultado = getMetricas();
+        return resultado != null ? resultado.centro : new ArrayList<>();
     }
 
+    // Se calculan una sola vez por versión del grafo.
     public GraphMetrics.GraphMetricsResult getMetricas() {
-        return GraphMetrics.calcularMetricas(adjList);
+        return futuroMetricas().join();
+    }
+
+    private CompletableFuture<GraphMetrics.GraphMetricsResult> futuroMetricas() {
+        while (true) {
+            CompletableFuture<GraphMetrics.GraphMetricsResult> actual = metricas.get();
+            if (actual != null) {
+                return actual;
+            }
+            CompletableFuture<GraphMetrics.GraphMetricsResult> nuevo = new CompletableFuture<>();
+            if (metricas.compareAndSet(null, nuevo)) {
+                try {
+                    nuevo.complete(calcularMetricas());
+                } catch (RuntimeException e) {
+                    metricas.compareAndSet(nuevo, null);
+                    nuevo.completeExceptionally(e);
+                }
+                return nuevo;
+            }
+        }
+    }
+
+    // Con la matriz de todos los pares o el modo incremental las métricas salen de ahí sin nuevas búsquedas;
+    // si no, por cotas de excentricidad.
+    private GraphMetrics.GraphMetricsResult calcularMetricas() {
+        if (excentricidadesIncrementales != null) {
+            return GraphMetrics.calcularMetricas(excentricidadesIncrementales);
+        }
+        AllPairsMatrix matriz = matrizTodosLosPares;
+        if (matriz != null) {
+            return GraphMetrics.calcularMetricas(matriz);
+        }
+        return GraphMetrics.calcularMetricasAcotadas(csrGraph);
+    }
+
+    // Calcula las métricas en segundo plano; getMetricas() espera a este cálculo en vez de repetirlo.
+    // Conviene asignar antes la matriz de todos los pares si ya está disponible.
+    public CompletableFuture<GraphMetrics.GraphMetricsResult> precalcularMetricas() {
+        return CompletableFuture.supplyAsync(this::getMetricas);
+    }
+
+    public void invalidarMetricas() {
+        metricas.set(null);
+    }
+
+    public AllPairsMatrix getMatrizTodosLosPares() {
+        return matrizTodosLosPares;
+    }
+
+    // Ignora matrices de otro grafo (p. ej. una reconstrucción que terminó después de recargar los datos).
+    public synchronized void setMatrizTodosLosPares(AllPairsMatrix matriz) {
+        if (matriz == null || matriz.getGraph() == csrGraph) {
+            matrizTodosLosPares = matriz;
+        }
+    }
+
+    public DistanceMatrix getMatrizDistancias(List<String> origenes, List<String> destinos) {
+        return DistanceMatrix.compute(csrGraph, origenes, destinos);
     }
 }
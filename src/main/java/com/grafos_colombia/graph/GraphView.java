@@ -54,6 +54,7 @@ public class GraphView {
     private static final Color RADIO_NODE_HIGHLIGHT_COLOR = Color.web("#3498db");
     private static final Color CENTER_NODE_HIGHLIGHT_COLOR = Color.web("#2ecc71");
     private static final Color DIAMETER_NODE_HIGHLIGHT_COLOR = Color.web("#e74c3c");
+    private static final Color ISOCHRONE_NODE_HIGHLIGHT_COLOR = Color.web("#f1c40f");
     private static final Color DRAGGING_NODE_COLOR = Color.ORANGE;
     private static final Color EDGE_COLOR = Color.GRAY;
     private static final Color PRIMARY_EDGE_HIGHLIGHT_COLOR = Color.web("#e74c3c");
@@ -61,6 +62,8 @@ public class GraphView {
     private static final Color RADIO_EDGE_HIGHLIGHT_COLOR = Color.web("#3498db");
     private static final Color CENTER_EDGE_HIGHLIGHT_COLOR = Color.web("#2ecc71");
     private static final Color DIAMETER_EDGE_HIGHLIGHT_COLOR = Color.web("#e74c3c");
+    private static final Color ISOCHRONE_EDGE_HIGHLIGHT_COLOR = Color.web("#f39c12");
+    private static final Color BOUNDARY_EDGE_HIGHLIGHT_COLOR = Color.web("#d35400");
     private static final Color TEXT_COLOR = Color.BLACK;
     private static final Color BACKGROUND_COLOR = Color.web("#ecf0f1");
 
@@ -69,6 +72,8 @@ public class GraphView {
     private static final int HIGHLIGHT_LEVEL_RADIO = 3;
     private static final int HIGHLIGHT_LEVEL_DIAMETER = 4;
     private static final int HIGHLIGHT_LEVEL_CENTER = 5;
+    private static final int HIGHLIGHT_LEVEL_ISOCHRONE = 6;
+    private static final int HIGHLIGHT_LEVEL_BOUNDARY = 7;
 
     public GraphView(Canvas canvas) {
         this.canvas = canvas;
@@ -358,6 +363,12 @@ public class GraphView {
                 case HIGHLIGHT_LEVEL_CENTER:
                     edgeColor = CENTER_EDGE_HIGHLIGHT_COLOR;
                     break;
+                case HIGHLIGHT_LEVEL_ISOCHRONE:
+                    edgeColor = ISOCHRONE_EDGE_HIGHLIGHT_COLOR;
+                    break;
+                case HIGHLIGHT_LEVEL_BOUNDARY:
+                    edgeColor = BOUNDARY_EDGE_HIGHLIGHT_COLOR;
+                    break;
                 default:
                     edgeColor = EDGE_COLOR;
             }
@@ -424,6 +435,9 @@ public class GraphView {
                     case HIGHLIGHT_LEVEL_CENTER:
                         nodeColor = CENTER_NODE_HIGHLIGHT_COLOR;
                         break;
+                    case HIGHLIGHT_LEVEL_ISOCHRONE:
+                        nodeColor = ISOCHRONE_NODE_HIGHLIGHT_COLOR;
+                        break;
                     default:
                         nodeColor = NODE_COLOR;
                 }
@@ -698,6 +712,43 @@ public class GraphView {
     }
 
 
+    // Zona alcanzable: nodos y aristas internas resaltados, aristas de frontera en otro color, centro como ruta.
+    public void highlightIsochrone(String centerId, Collection<String> reachableIds, List<String[]> boundaryEdges) {
+        clearHighlightState();
+
+        Set<String> reachable = new HashSet<>(reachableIds);
+        for (String nodeId : reachable) {
+            GraphNode node = nodeMap.get(nodeId);
+            if (node != null) {
+                node.setHighlightLevel(HIGHLIGHT_LEVEL_ISOCHRONE);
+                node.setFixed(true);
+            }
+        }
+        for (GraphEdge edge : edges) {
+            if (reachable.contains(edge.getSource().getId()) && reachable.contains(edge.getTarget().getId())) {
+                edge.setHighlightLevel(HIGHLIGHT_LEVEL_ISOCHRONE);
+                edge.setHighlightWidth(3.0);
+            }
+        }
+        if (boundaryEdges != null) {
+            for (String[] boundary : boundaryEdges) {
+                GraphNode source = nodeMap.get(boundary[0]);
+                GraphNode target = nodeMap.get(boundary[1]);
+                GraphEdge edge = source != null && target != null ? findEdgeBetween(source, target) : null;
+                if (edge != null) {
+                    edge.setHighlightLevel(HIGHLIGHT_LEVEL_BOUNDARY);
+                    edge.setHighlightWidth(2.0);
+                }
+            }
+        }
+        GraphNode centerNode = nodeMap.get(centerId);
+        if (centerNode != null) {
+            centerNode.setHighlightLevel(HIGHLIGHT_LEVEL_PRIMARY_ROUTE);
+        }
+
+        render();
+    }
+
     public void highlightNodes(List<String> nodeIds) {
         highlightNodesInternal(nodeIds, HIGHLIGHT_LEVEL_PRIMARY_ROUTE);
     }